@@ -0,0 +1,177 @@
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This class runs every algorithm on the same workload at the same time
+ * and prints their aggregate results side by side.
+ *
+ * The workload is parsed once and only read by the runs, every algorithm
+ * runs the table engine on its own process table over the workload on a
+ * ForkJoinPool (one algorithm per thread, without a gantt chart).
+ *
+ * RR uses the quantum of the input file if it has one, otherwise --quantum.
+ * NPP and PP only run if the input file has a priority for every process,
+ * CFS weights the processes by their priorities if the file has them.
+ */
+public class AlgorithmComparison {
+
+	//these are the algorithms in the order of the columns
+	private static final String[] ALGORITHMS = {"FCFS", "SJF", "SRTN", "RR", "CFS", "NPP", "PP"};
+	//these are the percentiles of the rows
+	private static final double[] PERCENTILES = {50, 99, 99.9};
+
+	/**
+	 * This method runs the comparison of the runtime arguments and printout the table
+	 * @param options These are the parsed runtime arguments
+	 * @throws Exception throws an exception if the input is incorrect
+	 */
+	public static void run(RunOptions options) throws Exception {
+		String inputFile = options.inputFile;
+		Workload workload;
+		boolean hasPriority;
+		int quantum = options.quantum;
+		if(BinaryWorkload.isBinary(inputFile)) {
+			BinaryWorkload binary = BinaryWorkload.open(inputFile);
+			workload = binary.toWorkload();
+			hasPriority = binary.hasPriority();
+			if(binary.getAlgorithm().equals("RR") || binary.getAlgorithm().equals("MLFQ")) {
+				quantum = binary.getQuantum();
+			}
+		}
+		else {
+			InputParser input = InputParser.parse(inputFile);
+			ArrayList<int[]> fileContents = input.getFileContents();
+			if(fileContents.size() < 3) {
+				throw new Exception("[Error]: "+inputFile+" needs process numbers, arrival times and burst times");
+			}
+			int count = fileContents.get(0).length;
+			//the fourth line is the quantum for RR (the quanta for MLFQ) and the priorities otherwise
+			boolean isRoundRobin = input.getAlgorithm().equalsIgnoreCase("RR")
+					|| input.getAlgorithm().equalsIgnoreCase("MLFQ");
+			hasPriority = fileContents.size() > 3 && !isRoundRobin && fileContents.get(3).length == count;
+			if(fileContents.size() > 3 && isRoundRobin) {
+				quantum = fileContents.get(3)[0];
+			}
+			workload = new Workload(fileContents.get(0), fileContents.get(1), fileContents.get(2),
+					hasPriority ? fileContents.get(3) : null);
+		}
+		TableScheduler[] runs = compare(workload, hasPriority, quantum, options.threads);
+
+		ReportWriter report = ProcessScheduling.report();
+		report.println("----------- Algorithm comparison -----------");
+		report.println(workload.size()+" processes, RR quantum "+quantum
+				+(hasPriority ? "" : ", no priorities (NPP and PP are not run)"));
+		StringBuilder line = new StringBuilder(128).append("\t\t");
+		for(String algorithm : ALGORITHMS) {
+			line.append('\t').append(algorithm);
+		}
+		report.println(line);
+		appendRow(report, line, "Finish Time\t", runs, run -> run.getStatistics().getFinishTime());
+		appendRow(report, line, "Switches\t", runs, run -> run.getContextSwitches());
+		String[] names = {"Wait", "T.A.", "Resp."};
+		for(int attribute = 0; attribute < names.length; attribute++) {
+			final int a = attribute;
+			line.setLength(0);
+			line.append(names[a]).append(" mean\t");
+			for(TableScheduler run : runs) {
+				line.append('\t').append(run == null ? "-" : String.format("%.2f", histogram(run, a).getMean()));
+			}
+			report.println(line);
+			for(double percentile : PERCENTILES) {
+				String name = names[a]+" p"+(percentile == (long) percentile ? ""+(long) percentile : ""+percentile);
+				appendRow(report, line, name+"\t", runs, run -> histogram(run, a).getPercentile(percentile));
+			}
+			appendRow(report, line, names[a]+" max\t", runs, run -> histogram(run, a).getMax());
+		}
+		report.println("--------------------------------------------");
+	}
+
+	/**
+	 * This is a whole number value of a finished run
+	 */
+	private interface Column {
+		long value(TableScheduler run);
+	}
+
+	/**
+	 * This method printout one row of the table
+	 * @param report This is where the row is printed
+	 * @param line This is the reused line buffer
+	 * @param name This is the name of the row
+	 * @param runs These are the finished runs (null for an algorithm that did not run)
+	 * @param column This is the value of the row
+	 * @throws Exception throws an exception if the report can not be written
+	 */
+	private static void appendRow(ReportWriter report, StringBuilder line, String name,
+			TableScheduler[] runs, Column column) throws Exception {
+		line.setLength(0);
+		line.append(name);
+		for(TableScheduler run : runs) {
+			line.append('\t');
+			if(run == null) {
+				line.append('-');
+			}
+			else {
+				line.append(column.value(run));
+			}
+		}
+		report.println(line);
+	}
+
+	/**
+	 * This method returns the histogram of an attribute of a finished run
+	 * @param run This is the finished run
+	 * @param attribute This is 0 for wait, 1 for turn around and 2 for response time
+	 * @return Returns the histogram
+	 */
+	private static Histogram histogram(TableScheduler run, int attribute) {
+		RunStatistics statistics = run.getStatistics();
+		if(attribute == 0) {
+			return statistics.getWaitTime();
+		}
+		return attribute == 1 ? statistics.getTurnAroundTime() : statistics.getResponceTime();
+	}
+
+	/**
+	 * This method runs every algorithm on the workload at the same time
+	 * @param workload This is the workload (it is shared by the runs)
+	 * @param hasPriority This is true if NPP and PP are run
+	 * @param quantum This is the quantum time of RR
+	 * @param threads This is the number of algorithms that run at the same time
+	 * @return Returns the finished run of every algorithm in the order of ALGORITHMS
+	 * (null for an algorithm that did not run)
+	 * @throws Exception throws an exception if a run fails
+	 */
+	public static TableScheduler[] compare(Workload workload, boolean hasPriority, int quantum,
+			int threads) throws Exception {
+		TableScheduler[] runs = new TableScheduler[ALGORITHMS.length];
+		ForkJoinPool pool = new ForkJoinPool(Math.min(threads, ALGORITHMS.length));
+		try {
+			ArrayList<Future<TableScheduler>> running = new ArrayList<Future<TableScheduler>>();
+			for(String algorithm : ALGORITHMS) {
+				boolean usesPriority = algorithm.equals("NPP") || algorithm.equals("PP");
+				if(usesPriority && !hasPriority) {
+					running.add(null);
+					continue;
+				}
+				running.add(pool.submit(() -> {
+					//every algorithm has its own run state over the shared workload
+					TableScheduler scheduler = new TableScheduler(new ProcessTable(workload));
+					scheduler.setRecordChart(false);
+					scheduler.run(algorithm, quantum);
+					return scheduler;
+				}));
+			}
+			for(int i = 0; i < runs.length; i++) {
+				if(running.get(i) != null) {
+					runs[i] = running.get(i).get();
+				}
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+		return runs;
+	}
+}
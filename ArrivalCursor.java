@@ -0,0 +1,69 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This is the list of processes that have yet to arrive.
+ *
+ * The processes are kept in an array sorted by arrival time
+ * (processes with the same arrival time keep their input order)
+ * and a cursor moves forward over the array as the processes arrive.
+ * Admitting the k processes that arrived by a given time costs O(k)
+ * and does not allocate any objects.
+ *
+ * So the processes are admitted in order of arrival time, not in input
+ * order, and the next arrival is the earliest one. For input that is not
+ * sorted by arrival time this can change the schedule of the original
+ * methods, which admitted the arrived processes in input order and took
+ * the next process of the input as the next arrival (see the README).
+ */
+public class ArrivalCursor {
+
+	//these are the processes sorted by arrival time
+	private final Process[] arrivals;
+	//this is the index of the next process to arrive
+	private int next;
+
+	/**
+	 * This is the standard constructor for the arrival cursor
+	 * @param processList This is the list of processes in input order
+	 */
+	public ArrivalCursor(ArrayList<Process> processList) {
+		this.arrivals = processList.toArray(new Process[0]);
+		//the sort is stable and linear for input that is already sorted
+		Arrays.sort(this.arrivals, Comparator.comparingInt(Process::getArrivalTime));
+	}
+
+	/**
+	 * This method returns if every process has arrived
+	 * @return Returns true if there are no more processes to arrive
+	 */
+	public boolean isEmpty() {
+		return next == arrivals.length;
+	}
+
+	/**
+	 * This method returns the arrival time of the next process
+	 * @return Returns the arrival time of the next process to arrive
+	 */
+	public int peekArrivalTime() {
+		return arrivals[next].getArrivalTime();
+	}
+
+	/**
+	 * This method returns if the next process has arrived by the given time
+	 * @param time This is the current time
+	 * @return Returns true if the next process arrives at or before time
+	 */
+	public boolean hasArrivedBy(int time) {
+		return next < arrivals.length && arrivals[next].getArrivalTime() <= time;
+	}
+
+	/**
+	 * This method returns the next process and moves the cursor forward
+	 * @return Returns the next process to arrive
+	 */
+	public Process next() {
+		return arrivals[next++];
+	}
+}
@@ -0,0 +1,281 @@
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class runs a batch of workloads in one program run, so the
+ * workloads share a warm JIT instead of starting a new JVM each.
+ *
+ * The batch is a pipeline of three stages connected by bounded queues:
+ * # reading: the input files are parsed (InputParser) by reader threads
+ * # simulating: the parsed workloads are solved on a ForkJoinPool with
+ * one worker per thread, each with its own report (ReportWriter)
+ * # writing: a writer thread writes the report of every workload
+ * to its own output file (input file name + ".out")
+ *
+ * The queues hold at most two workloads per simulating thread, so a fast
+ * stage waits for a slow one instead of filling the memory. A workload
+ * that fails does not stop the batch, its error is written to its output file.
+ */
+public class BatchRunner {
+
+	//this is the number of queued workloads per simulating thread
+	private static final int QUEUE_PER_THREAD = 2;
+	//this is the number of simulating threads per reader thread
+	private static final int THREADS_PER_READER = 4;
+
+	/**
+	 * This is a workload on its way through the pipeline
+	 */
+	private static class Job {
+		//these are the input and output file of the workload
+		final String inputFile;
+		final Path outputFile;
+		//these are the parsed contents (not used for binary workloads)
+		String algorithm;
+		ArrayList<int[]> fileContents;
+		boolean binary;
+		//these are the results of the workload
+		String output = "";
+		Exception error;
+
+		Job(String inputFile, Path outputFile) {
+			this.inputFile = inputFile;
+			this.outputFile = outputFile;
+		}
+	}
+
+	//this marks the end of a queue
+	private static final Job END = new Job(null, null);
+
+	/**
+	 * This method runs every input file of the batch and printout the totals
+	 * @param options These are the parsed runtime arguments
+	 * @throws Exception throws an exception if the batch is interrupted or an input is missing
+	 */
+	public static void run(RunOptions options) throws Exception {
+		ArrayList<String> files = expand(options.inputFiles);
+		int threads = options.threads;
+		int readers = Math.max(1, Math.min(files.size(), threads / THREADS_PER_READER));
+		BlockingQueue<Job> parsed = new ArrayBlockingQueue<Job>(threads * QUEUE_PER_THREAD);
+		BlockingQueue<Job> finished = new ArrayBlockingQueue<Job>(threads * QUEUE_PER_THREAD);
+		AtomicInteger nextFile = new AtomicInteger();
+		AtomicInteger activeReaders = new AtomicInteger(readers);
+		AtomicInteger failed = new AtomicInteger();
+		long start = System.nanoTime();
+
+		//reading stage, the last reader to finish ends the simulating stage
+		ArrayList<Thread> stages = new ArrayList<Thread>();
+		for(int r = 0; r < readers; r++) {
+			stages.add(new Thread(() -> {
+				try {
+					int index;
+					while((index = nextFile.getAndIncrement()) < files.size()) {
+						parsed.put(read(files.get(index), options));
+					}
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				finally {
+					//a reader that fails still counts as finished, so the batch ends
+					if(activeReaders.decrementAndGet() == 0) {
+						end(parsed, threads);
+					}
+				}
+			}, "batch-reader-"+r));
+		}
+		//writing stage, ends once every simulating thread has ended
+		stages.add(new Thread(() -> {
+			try {
+				int ended = 0;
+				while(ended < threads) {
+					Job job = finished.take();
+					if(job == END) {
+						ended++;
+					}
+					else if(!write(job)) {
+						failed.incrementAndGet();
+					}
+				}
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "batch-writer"));
+		//simulating stage
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		for(int t = 0; t < threads; t++) {
+			pool.execute(() -> {
+				try {
+					Job job;
+					while((job = parsed.take()) != END) {
+						simulate(job, options);
+						finished.put(job);
+					}
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				catch(Error e) {
+					//the workload is lost, it is counted as failed and the error is not hidden
+					failed.incrementAndGet();
+					throw e;
+				}
+				finally {
+					//the writing stage waits for the END of every simulating thread
+					end(finished, 1);
+				}
+			});
+		}
+		for(Thread stage : stages) {
+			stage.start();
+		}
+		for(Thread stage : stages) {
+			stage.join();
+		}
+		pool.shutdown();
+		pool.awaitTermination(1, TimeUnit.MINUTES);
+		long millis = (System.nanoTime() - start) / 1000000;
+		System.out.println("Ran "+files.size()+" workloads in "+millis+" ms with "+threads
+				+" threads ("+failed.get()+" failed)");
+	}
+
+	/**
+	 * This method puts the END marks into a queue
+	 * @param queue This is the queue of the next stage
+	 * @param count This is the number of threads of the next stage
+	 */
+	private static void end(BlockingQueue<Job> queue, int count) {
+		try {
+			for(int t = 0; t < count; t++) {
+				queue.put(END);
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * This method expands the directories of the batch into their input files,
+	 * the text input files (.txt) and the binary workloads (BinaryWorkload)
+	 * @param inputs These are the input files and directories
+	 * @return Returns every input file in order
+	 * @throws Exception throws an exception if an input does not exist or a directory can not be read
+	 */
+	private static ArrayList<String> expand(ArrayList<String> inputs) throws Exception {
+		ArrayList<String> files = new ArrayList<String>();
+		for(String input : inputs) {
+			File file = new File(input);
+			if(file.isDirectory()) {
+				File[] children = file.listFiles(File::isFile);
+				if(children == null) {
+					throw new Exception("[Error]: "+input+" cannot be read");
+				}
+				Arrays.sort(children);
+				for(File child : children) {
+					//the output files of an earlier batch and the row traces are skipped
+					if(child.getName().endsWith(".txt") || BinaryWorkload.isBinary(child.getPath())) {
+						files.add(child.getPath());
+					}
+				}
+			}
+			else if(file.isFile()) {
+				files.add(input);
+			}
+			else {
+				throw new Exception("[Error]: "+input+" cannot be found");
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * This method reads and parses an input file (reading stage)
+	 * @param inputFile This is the directory path of the input file
+	 * @param options These are the parsed runtime arguments
+	 * @return Returns the job of the input file
+	 */
+	private static Job read(String inputFile, RunOptions options) {
+		Path input = Paths.get(inputFile);
+		Path directory = options.outputDirectory != null ? Paths.get(options.outputDirectory) : input.getParent();
+		String name = input.getFileName()+".out";
+		Job job = new Job(inputFile, directory != null ? directory.resolve(name) : Paths.get(name));
+		try {
+			//a binary workload is mapped when it is simulated, there is nothing to parse
+			job.binary = BinaryWorkload.isBinary(inputFile);
+			if(!job.binary) {
+				InputParser parser = InputParser.parse(inputFile);
+				job.algorithm = parser.getAlgorithm();
+				job.fileContents = parser.getFileContents();
+			}
+		}
+		catch(Exception e) {
+			job.error = e;
+		}
+		return job;
+	}
+
+	/**
+	 * This method solves a parsed workload into its own report (simulating stage)
+	 * @param job This is the job of the workload
+	 * @param options These are the parsed runtime arguments
+	 */
+	private static void simulate(Job job, RunOptions options) {
+		if(job.error != null) {
+			return;
+		}
+		StringWriter output = new StringWriter();
+		ProcessScheduling.setReport(new ReportWriter(output, output, options.summaryOnly));
+		try {
+			if(job.binary) {
+				ProcessScheduling.runBinaryWorkload(job.inputFile);
+			}
+			else {
+				ProcessScheduling.runFileContents(job.fileContents, job.algorithm);
+			}
+			ProcessScheduling.report().close();
+		}
+		catch(Exception e) {
+			job.error = e;
+		}
+		finally {
+			ProcessScheduling.setReport(null);
+		}
+		job.output = output.toString();
+		//the parsed contents are not needed by the writing stage
+		job.fileContents = null;
+	}
+
+	/**
+	 * This method writes the report of a workload to its output file (writing stage)
+	 * @param job This is the job of the workload
+	 * @return Returns true if the workload was solved
+	 */
+	private static boolean write(Job job) {
+		String output = job.output;
+		if(job.error != null) {
+			String message = job.error.getMessage() != null ? job.error.getMessage() : job.error.toString();
+			output += message+System.lineSeparator();
+			System.err.println(job.inputFile+": "+message);
+		}
+		try {
+			Files.writeString(job.outputFile, output);
+		}
+		catch(Exception e) {
+			System.err.println(job.inputFile+": [Error]: "+job.outputFile+" can not be written");
+			return false;
+		}
+		return job.error == null;
+	}
+}
@@ -0,0 +1,389 @@
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * This class reads and writes the binary workload format.
+ *
+ * A binary workload holds the same data as a text input file but is
+ * opened through a memory mapped buffer, so the processes are ready to
+ * be scheduled without a parse step. The table engine runs over int
+ * arrays, so the mapped columns are bulk copied into a Workload before
+ * the run (toWorkload) and a run still needs the heap memory of the columns.
+ *
+ * The header only has room for one quantum, so MLFQ is stored with the
+ * default levels (the quantum doubles on every level) and the default boost
+ * period, and CFS with the default target latency and minimum granularity.
+ * A text input file with other MLFQ levels or CFS latencies is not converted.
+ *
+ * Binary workload format (version 1, every value is little-endian):
+ * # header (32 bytes): magic "PSWL", version (int), algorithm code (int),
+ * quantum (int, RR and the first level of MLFQ), process count (long), flags (int), reserved (int)
+ * # process number column: count ints
+ * # arrival time column: count ints
+ * # burst time column: count ints
+ * # priority column: count ints (only if flags has HAS_PRIORITY)
+ *
+ * This program also converts text input files to binary workloads.
+ * Usage: java BinaryWorkload input.txt output.bin
+ * or: java BinaryWorkload directory (converts every .txt file to a .bin file)
+ */
+public class BinaryWorkload {
+
+	//this is the first 4 bytes of every binary workload ("PSWL")
+	public static final int MAGIC = 0x4c575350;
+	//this is the current version of the format
+	public static final int VERSION = 1;
+	//this is the size of the header in bytes
+	public static final int HEADER_SIZE = 32;
+	//this flag is set if the workload has a priority column
+	public static final int HAS_PRIORITY = 1;
+	//these are the algorithms in order of their code
+	public static final String[] ALGORITHMS = {"FCFS", "SJF", "SRTN", "RR", "NPP", "PP", "MLFQ", "CFS"};
+
+	//these are the values of the header
+	private final String algorithm;
+	private final int quantum;
+	private final int count;
+	private final boolean hasPriority;
+	//these are the mapped columns
+	private final IntBuffer processNumber;
+	private final IntBuffer arrival;
+	private final IntBuffer burst;
+	private final IntBuffer priority;
+
+	/**
+	 * This is the constructor for a mapped binary workload
+	 * @param header This is the mapped header
+	 * @param channel This is the open channel of the file
+	 * @throws Exception throws an exception if the file is not a binary workload
+	 */
+	private BinaryWorkload(ByteBuffer header, FileChannel channel) throws Exception {
+		header.order(ByteOrder.LITTLE_ENDIAN);
+		if(header.getInt(0) != MAGIC) {
+			throw new Exception("[Error]: Not a binary workload file");
+		}
+		if(header.getInt(4) != VERSION) {
+			throw new Exception("[Error]: Unsupported binary workload version "+header.getInt(4));
+		}
+		int code = header.getInt(8);
+		if(code < 0 || code >= ALGORITHMS.length) {
+			throw new Exception("[Error]: Unknown algorithm code "+code);
+		}
+		this.algorithm = ALGORITHMS[code];
+		this.quantum = header.getInt(12);
+		long processes = header.getLong(16);
+		//every column must fit in a single mapping and an int array
+		if(processes < 0 || processes > Integer.MAX_VALUE / 4) {
+			throw new Exception("[Error]: Unsupported process count "+processes);
+		}
+		this.count = (int) processes;
+		this.hasPriority = (header.getInt(24) & HAS_PRIORITY) != 0;
+		long expected = HEADER_SIZE + 4L * count * (hasPriority ? 4 : 3);
+		if(channel.size() < expected) {
+			throw new Exception("[Error]: Binary workload is truncated ("+channel.size()+" of "+expected+" bytes)");
+		}
+		this.processNumber = mapColumn(channel, 0);
+		this.arrival = mapColumn(channel, 1);
+		this.burst = mapColumn(channel, 2);
+		this.priority = hasPriority ? mapColumn(channel, 3) : null;
+	}
+
+	/**
+	 * This method maps one column of the file
+	 * @param channel This is the open channel of the file
+	 * @param column This is the position of the column
+	 * @return Returns the column as a little-endian int buffer
+	 * @throws Exception throws an exception if the column can not be mapped
+	 */
+	private IntBuffer mapColumn(FileChannel channel, int column) throws Exception {
+		long position = HEADER_SIZE + 4L * count * column;
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, 4L * count);
+		return buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+	}
+
+	/**
+	 * This method opens a binary workload through a memory mapped buffer
+	 * @param path This is the directory path of the binary workload
+	 * @return Returns the mapped binary workload
+	 * @throws Exception throws an exception if the file is not a binary workload
+	 */
+	public static BinaryWorkload open(String path) throws Exception {
+		//the mappings stay valid after the channel is closed
+		try(FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			if(channel.size() < HEADER_SIZE) {
+				throw new Exception("[Error]: Not a binary workload file");
+			}
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+			return new BinaryWorkload(header, channel);
+		}
+	}
+
+	/**
+	 * This method returns if a file starts with the binary workload magic
+	 * @param path This is the directory path of the file
+	 * @return Returns true if the file is a binary workload
+	 * @throws Exception throws an exception if the file can not be read
+	 */
+	public static boolean isBinary(String path) throws Exception {
+		try(FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+			while(magic.hasRemaining() && channel.read(magic) > 0) {
+				//read until the 4 bytes are filled or the file ends
+			}
+			return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+		}
+	}
+
+	/**
+	 * This method returns the algorithm of the workload
+	 * @return Returns the algorithm abbreviation
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * This method returns the quantum of the workload
+	 * @return Returns the quantum time (round robin only)
+	 */
+	public int getQuantum() {
+		return quantum;
+	}
+
+	/**
+	 * This method returns if the workload has a priority column
+	 * @return Returns true if every process has a priority
+	 */
+	public boolean hasPriority() {
+		return hasPriority;
+	}
+
+	/**
+	 * This method returns the number of processes in the workload
+	 * @return Returns the process count
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * This method returns the process number of a process
+	 * @param index This is the index of the process
+	 * @return Returns the process number
+	 */
+	public int processNumber(int index) {
+		return processNumber.get(index);
+	}
+
+	/**
+	 * This method returns the arrival time of a process
+	 * @param index This is the index of the process
+	 * @return Returns the arrival time
+	 */
+	public int arrival(int index) {
+		return arrival.get(index);
+	}
+
+	/**
+	 * This method returns the burst time of a process
+	 * @param index This is the index of the process
+	 * @return Returns the burst time
+	 */
+	public int burst(int index) {
+		return burst.get(index);
+	}
+
+	/**
+	 * This method returns the priority of a process
+	 * @param index This is the index of the process
+	 * @return Returns the priority (-1 if the workload has no priorities)
+	 */
+	public int priority(int index) {
+		return hasPriority ? priority.get(index) : -1;
+	}
+
+	/**
+	 * This method creates a workload from the mapped columns.
+	 * The columns are bulk copied once into int arrays on the heap, there is no parse step.
+	 * @return Returns the workload
+	 * @throws Exception throws an exception if the columns are incorrect
+	 */
+	public Workload toWorkload() throws Exception {
+		return new Workload(copy(processNumber), copy(arrival), copy(burst),
+				hasPriority ? copy(priority) : null, true);
+	}
+
+	/**
+	 * This method creates a process table from the mapped columns.
+	 * @return Returns the process table of the workload
+	 * @throws Exception throws an exception if the columns are incorrect
+	 */
+	public ProcessTable toProcessTable() throws Exception {
+		return new ProcessTable(toWorkload());
+	}
+
+	/**
+	 * This method bulk copies a mapped column into an int array
+	 * @param column This is the mapped column
+	 * @return Returns the values of the column
+	 */
+	private static int[] copy(IntBuffer column) {
+		int[] values = new int[column.limit()];
+		column.duplicate().get(values);
+		return values;
+	}
+
+	/**
+	 * This method writes a binary workload
+	 * @param path This is the directory path of the binary workload
+	 * @param algorithm This is the algorithm abbreviation
+	 * @param quantum This is the quantum time (round robin only)
+	 * @param processNumber This is the int array of the process numbers
+	 * @param arrivalTime This is the int array of the arrival times
+	 * @param burstTime This is the int array of the burst times
+	 * @param priority This is the int array of the priorities (null for none)
+	 * @throws Exception throws an exception if the file can not be written
+	 */
+	public static void write(String path, String algorithm, int quantum, int[] processNumber,
+			int[] arrivalTime, int[] burstTime, int[] priority) throws Exception {
+		int code = algorithmCode(algorithm);
+		if((processNumber.length != arrivalTime.length)
+			|| (arrivalTime.length != burstTime.length)
+			|| (priority != null && arrivalTime.length != priority.length)) {
+			throw new Exception("[Error]: Incorrect inputs lengths found!");
+		}
+		int count = processNumber.length;
+		long size = HEADER_SIZE + 4L * count * (priority != null ? 4 : 3);
+		try(FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(code).putInt(quantum);
+			buffer.putLong(count).putInt(priority != null ? HAS_PRIORITY : 0).putInt(0);
+			IntBuffer columns = buffer.asIntBuffer();
+			columns.put(processNumber).put(arrivalTime).put(burstTime);
+			if(priority != null) {
+				columns.put(priority);
+			}
+			buffer.force();
+		}
+	}
+
+	/**
+	 * This method converts a text input file to a binary workload
+	 * @param textPath This is the directory path of the text input file
+	 * @param binaryPath This is the directory path of the binary workload
+	 * @throws Exception throws an exception if the input is incorrect
+	 */
+	public static void convert(String textPath, String binaryPath) throws Exception {
+		InputParser input = InputParser.parse(textPath);
+		String algorithm = input.getAlgorithm();
+		ArrayList<int[]> fileContents = input.getFileContents();
+		if(fileContents.size() < 3) {
+			throw new Exception("[Error]: "+textPath+" needs process numbers, arrival times and burst times");
+		}
+		//MLFQ keeps the quantum of its first level, the other levels double it
+		boolean isRoundRobin = algorithm.equalsIgnoreCase("RR") || algorithm.equalsIgnoreCase("MLFQ");
+		//the priorities are optional for CFS
+		boolean hasPriority = algorithm.equalsIgnoreCase("NPP") || algorithm.equalsIgnoreCase("PP")
+				|| (algorithm.equalsIgnoreCase("CFS") && fileContents.size() > 3);
+		if((isRoundRobin || hasPriority) && fileContents.size() < 4) {
+			throw new Exception("[Error]: "+textPath+" needs a fourth line for "+algorithm);
+		}
+		//the settings that the header can not hold are rejected instead of dropped
+		if(algorithm.equalsIgnoreCase("MLFQ") && !hasDefaultLevels(fileContents)) {
+			throw new Exception("[Error]: "+textPath+" has MLFQ levels or a boost period that a binary workload"
+					+" can not hold (only "+MultiLevelFeedbackQueuePolicy.DEFAULT_LEVELS+" doubling levels and the default boost period)");
+		}
+		if(algorithm.equalsIgnoreCase("CFS") && fileContents.size() > 4 && !hasDefaultLatency(fileContents.get(4))) {
+			throw new Exception("[Error]: "+textPath+" has a CFS target latency or minimum granularity that a binary"
+					+" workload can not hold (only "+CompletelyFairPolicy.DEFAULT_TARGET_LATENCY+","
+					+CompletelyFairPolicy.DEFAULT_MIN_GRANULARITY+")");
+		}
+		write(binaryPath, algorithm,
+				isRoundRobin ? fileContents.get(3)[0] : 0,
+				fileContents.get(0), fileContents.get(1), fileContents.get(2),
+				hasPriority ? fileContents.get(3) : null);
+	}
+
+	/**
+	 * This method returns if the MLFQ lines of a text input file are the levels
+	 * and the boost period of a single quantum (MultiLevelFeedbackQueuePolicy.withQuantum)
+	 * @param fileContents These are the lines of the input file
+	 * @return Returns true if the quantum of the first level is all the header has to hold
+	 */
+	private static boolean hasDefaultLevels(ArrayList<int[]> fileContents) {
+		int[] quanta = fileContents.get(3);
+		if(quanta.length != MultiLevelFeedbackQueuePolicy.DEFAULT_LEVELS) {
+			return false;
+		}
+		for(int l = 1; l < quanta.length; l++) {
+			if((long) quanta[l] != (long) quanta[0] << l) {
+				return false;
+			}
+		}
+		return fileContents.size() < 5
+				|| fileContents.get(4)[0] == MultiLevelFeedbackQueuePolicy.defaultBoostPeriod(quanta);
+	}
+
+	/**
+	 * This method returns if the fifth CFS line of a text input file is the default
+	 * target latency and minimum granularity (CompletelyFairPolicy.withDefaults)
+	 * @param latency These are the values of the fifth line
+	 * @return Returns true if the header does not have to hold the line
+	 */
+	private static boolean hasDefaultLatency(int[] latency) {
+		return latency.length == 2 && latency[0] == CompletelyFairPolicy.DEFAULT_TARGET_LATENCY
+				&& latency[1] == CompletelyFairPolicy.DEFAULT_MIN_GRANULARITY;
+	}
+
+	/**
+	 * This method returns the code of an algorithm
+	 * @param algorithm This is the algorithm abbreviation
+	 * @return Returns the position of the algorithm in ALGORITHMS
+	 * @throws Exception throws an exception if the algorithm is unknown
+	 */
+	public static int algorithmCode(String algorithm) throws Exception {
+		for(int i = 0; i < ALGORITHMS.length; i++) {
+			if(ALGORITHMS[i].equalsIgnoreCase(algorithm)) {
+				return i;
+			}
+		}
+		throw new Exception("[Error]: Unknown algorithm "+algorithm);
+	}
+
+	/**
+	 * This is the driver method of the converter.
+	 * @param args The text input file and the binary output file,
+	 * or a directory of text input files
+	 * @throws Exception throws an exception if an input is incorrect
+	 */
+	public static void main(String[] args) throws Exception {
+		if(args.length == 1 && new File(args[0]).isDirectory()) {
+			//convert every text file of the directory
+			File[] files = new File(args[0]).listFiles((dir, name) -> name.endsWith(".txt"));
+			Arrays.sort(files);
+			for(File file : files) {
+				String binaryPath = file.getPath().substring(0, file.getPath().length() - 4)+".bin";
+				convert(file.getPath(), binaryPath);
+				System.out.println(file.getPath()+" -> "+binaryPath);
+			}
+		}
+		else if(args.length == 2) {
+			convert(args[0], args[1]);
+			System.out.println(args[0]+" -> "+args[1]);
+		}
+		else {
+			System.out.println("Error. Usage: java BinaryWorkload input.txt output.bin | directory");
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,260 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This engine solves a process table by splitting it into busy periods
+ * and simulating them at the same time.
+ *
+ * A single cpu is never idle while a process is ready, so the cpu finishes
+ * the work of the processes that arrived so far at the same time whatever
+ * the policy picks. Where that time comes before the next arrival the
+ * readyQueue is empty and the next process arrives at an idle cpu, so the
+ * trace splits there into busy periods that do not depend on each other.
+ * The boundaries are found from the arrival and burst times alone:
+ * # end = max(end, arrival time) + burst time, in order of arrival
+ * # a busy period starts at the first process and every process that arrives after end
+ *
+ * The busy periods are grouped into segments of about the same number of
+ * processes (a few per thread, so a thread that finishes early takes the next
+ * one). Every segment is solved by its own table engine (TableScheduler) on a
+ * ForkJoinPool and the results, the statistics, the metrics and the gantt
+ * charts are put back together in order of arrival. Every segment starts at
+ * the time the busy periods before it end (from the same arrival and burst
+ * times), so its idle time is the idle time of one run over the whole table.
+ * The results are the same as that run.
+ */
+public class BusyPeriodScheduler {
+
+	//this is the number of segments per thread
+	private static final int SEGMENTS_PER_THREAD = 4;
+
+	//this is the process table that is scheduled
+	private final ProcessTable table;
+	//this creates a new policy for every segment
+	private final Callable<SchedulingPolicy> policies;
+	//this is false if the gantt chart is not recorded
+	private boolean recordChart = true;
+	//these are the results of the last run
+	private final GanttChart chart = new GanttChart(0);
+	private final RunStatistics statistics = new RunStatistics();
+	private final SchedulerMetrics metrics = new SchedulerMetrics();
+	private int busyPeriods;
+	private int segments;
+
+	/**
+	 * This is the standard constructor for the busy period engine
+	 * @param table This is the filled process table that is scheduled
+	 * @param policies This creates a new policy of the algorithm for every segment
+	 */
+	public BusyPeriodScheduler(ProcessTable table, Callable<SchedulingPolicy> policies) {
+		this.table = table;
+		this.policies = policies;
+	}
+
+	/**
+	 * This method turns the recording of the gantt chart on or off
+	 * @param recordChart This is true if the gantt chart is recorded
+	 */
+	public void setRecordChart(boolean recordChart) {
+		this.recordChart = recordChart;
+	}
+
+	/**
+	 * This method finds the busy periods of a workload
+	 * @param workload This is the workload
+	 * @return Returns the position in the arrival order at which every busy period starts
+	 */
+	public static int[] busyPeriods(Workload workload) {
+		int[] starts = new int[Math.min(workload.size(), 16)];
+		int count = 0;
+		//this is the time the cpu finishes the processes that arrived so far (the run starts at 0)
+		long end = 0;
+		for(int k = 0; k < workload.size(); k++) {
+			int i = workload.arrivalOrder(k);
+			if(k == 0 || workload.arrival(i) > end) {
+				if(count == starts.length) {
+					starts = Arrays.copyOf(starts, count * 2);
+				}
+				starts[count++] = k;
+			}
+			end = Math.max(end, workload.arrival(i)) + workload.burst(i);
+		}
+		return Arrays.copyOf(starts, count);
+	}
+
+	/**
+	 * This method solves the table, the segments are simulated in parallel
+	 * @param threads This is the number of segments that are simulated at the same time
+	 * @throws Exception throws an exception if a segment fails
+	 */
+	public void run(int threads) throws Exception {
+		Workload workload = table.getWorkload();
+		int[] starts = busyPeriods(workload);
+		busyPeriods = starts.length;
+		int[] bounds = segments(starts, workload.size(), threads * SEGMENTS_PER_THREAD);
+		segments = bounds.length - 1;
+		long[] startTimes = startTimes(workload, bounds);
+		TableScheduler[] parts = new TableScheduler[segments];
+		ProcessTable[] partTables = new ProcessTable[segments];
+		ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(threads, segments)));
+		try {
+			ArrayList<Future<Object>> simulating = new ArrayList<Future<Object>>();
+			for(int s = 0; s < segments; s++) {
+				final int segment = s;
+				simulating.add(pool.submit(() -> {
+					//the processes of the segment in order of arrival
+					int from = bounds[segment];
+					int count = bounds[segment + 1] - from;
+					int[] number = new int[count];
+					int[] arrival = new int[count];
+					int[] burst = new int[count];
+					int[] priority = new int[count];
+					for(int k = 0; k < count; k++) {
+						int i = workload.arrivalOrder(from + k);
+						number[k] = workload.processNumber(i);
+						arrival[k] = workload.arrival(i);
+						burst[k] = workload.burst(i);
+						priority[k] = workload.priority(i);
+					}
+					ProcessTable part = new ProcessTable(new Workload(number, arrival, burst, priority, true));
+					TableScheduler scheduler = new TableScheduler(part);
+					scheduler.setRecordChart(recordChart);
+					scheduler.setStartTime(startTimes[segment]);
+					scheduler.run(policies.call());
+					partTables[segment] = part;
+					parts[segment] = scheduler;
+					return null;
+				}));
+			}
+			for(Future<Object> part : simulating) {
+				part.get();
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+		//merge the results of the segments into the table
+		table.reset();
+		chart.clear();
+		statistics.reset();
+		metrics.reset(0);
+		boolean ran = false;
+		for(int s = 0; s < segments; s++) {
+			ProcessTable part = partTables[s];
+			for(int k = 0; k < part.size(); k++) {
+				int i = workload.arrivalOrder(bounds[s] + k);
+				table.remaining[i] = part.remaining[k];
+				table.start[i] = part.start[k];
+				table.exit[i] = part.exit[k];
+				table.wait[i] = part.wait[k];
+				table.turnaround[i] = part.turnaround[k];
+				table.response[i] = part.response[k];
+			}
+			RunStatistics partStatistics = parts[s].getStatistics();
+			if(partStatistics.getCount() > 0) {
+				//the first process of a segment switches from the last completed process before it
+				if(ran) {
+					metrics.contextSwitch(false);
+				}
+				ran = true;
+			}
+			metrics.add(parts[s].getMetrics());
+			statistics.add(partStatistics);
+			chart.append(parts[s].getGanttChart());
+		}
+	}
+
+	/**
+	 * This method groups the busy periods into segments of about the same number of processes
+	 * @param starts This is the position at which every busy period starts
+	 * @param size This is the number of processes
+	 * @param target This is the number of segments that is aimed for
+	 * @return Returns the position at which every segment starts followed by the number of processes
+	 */
+	private static int[] segments(int[] starts, int size, int target) {
+		int[] bounds = new int[Math.min(starts.length, Math.max(target, 1)) + 1];
+		int count = 0;
+		for(int b = 0; b < starts.length; b++) {
+			//a segment starts at the first busy period past its share of the processes
+			if(count == 0 || starts[b] >= (long) size * count / (bounds.length - 1)) {
+				bounds[count++] = starts[b];
+				if(count == bounds.length - 1) {
+					break;
+				}
+			}
+		}
+		bounds[count] = size;
+		return Arrays.copyOf(bounds, count + 1);
+	}
+
+	/**
+	 * This method returns the time every segment starts at
+	 * @param workload This is the workload
+	 * @param bounds This is the position at which every segment starts followed by the number of processes
+	 * @return Returns the time the cpu finishes the processes before every segment
+	 */
+	private static long[] startTimes(Workload workload, int[] bounds) {
+		long[] startTimes = new long[bounds.length - 1];
+		long end = 0;
+		int segment = 0;
+		for(int k = 0; k < workload.size() && segment < startTimes.length; k++) {
+			while(segment < startTimes.length && bounds[segment] == k) {
+				startTimes[segment++] = end;
+			}
+			int i = workload.arrivalOrder(k);
+			end = Math.max(end, workload.arrival(i)) + workload.burst(i);
+		}
+		return startTimes;
+	}
+
+	/**
+	 * This method returns the gantt chart of the last run
+	 * @return Returns the gantt chart of the segments in order
+	 */
+	public GanttChart getGanttChart() {
+		return chart;
+	}
+
+	/**
+	 * This method returns the running statistics of the last run
+	 * @return Returns the statistics of the completed processes
+	 */
+	public RunStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * This method returns the number of context switches of the last run
+	 * @return Returns how often the cpu changed from one process to another
+	 */
+	public long getContextSwitches() {
+		return metrics.getContextSwitches();
+	}
+
+	/**
+	 * This method returns the metrics of the simulated system of the last run
+	 * @return Returns the context switches, preemptions, utilization and ready queue length
+	 */
+	public SchedulerMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * This method returns the number of busy periods of the last run
+	 * @return Returns the number of times the cpu started after being idle (or at the start)
+	 */
+	public int getBusyPeriods() {
+		return busyPeriods;
+	}
+
+	/**
+	 * This method returns the number of segments of the last run
+	 * @return Returns the number of table engines that were run
+	 */
+	public int getSegments() {
+		return segments;
+	}
+}
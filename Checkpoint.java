@@ -0,0 +1,137 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * This class saves a streamed run of the table engine to a checkpoint
+ * file and restores it, so a long run that dies can be resumed instead
+ * of started over and gives exactly the output of a run without a break.
+ *
+ * The run is saved between two events, the state is small because the
+ * table only holds the live processes and the statistics are histograms.
+ *
+ * Checkpoint format (version 2, every value is big-endian):
+ * # header: magic "PSCP", version (int), algorithm (UTF), quantum (int), trace length (long)
+ * # trace: file position, line and column, previous arrival time, rows read and the read ahead row
+ * # report: length of the process file (-1 for the console) and the statistics of the report
+ * # table: rows, released rows and every column of every row
+ * # engine: time, last process, metrics, round check and the statistics of the run
+ * # policy: the readyQueue and every other state of the policy
+ *
+ * A checkpoint is written to a temporary file that replaces the last
+ * checkpoint once it is complete, so a run that dies while it saves
+ * still has the last checkpoint.
+ */
+public class Checkpoint {
+
+	//this is the first 4 bytes of every checkpoint ("PSCP")
+	public static final int MAGIC = 0x50534350;
+	//this is the current version of the format
+	public static final int VERSION = 2;
+	//this is the size of the stream buffers in bytes
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	//this is the checkpoint file
+	private final Path file;
+	//this is the trace that is streamed
+	private final Path traceFile;
+	private final TraceReader trace;
+	//these are the table and the report of the run
+	private final ProcessTable table;
+	private final ReportWriter report;
+
+	/**
+	 * This is the standard constructor for the checkpoint of a streamed run
+	 * @param file This is the directory path of the checkpoint file
+	 * @param traceFile This is the directory path of the trace
+	 * @param trace This is the reader of the trace
+	 * @param table This is the process table that the trace is loaded into
+	 * @param report This is the report of the run
+	 */
+	public Checkpoint(String file, String traceFile, TraceReader trace, ProcessTable table, ReportWriter report) {
+		this.file = Paths.get(file);
+		this.traceFile = Paths.get(traceFile);
+		this.trace = trace;
+		this.table = table;
+		this.report = report;
+	}
+
+	/**
+	 * This method returns if there is a checkpoint to resume from
+	 * @return Returns true if the checkpoint file exists
+	 */
+	public boolean exists() {
+		return Files.exists(file);
+	}
+
+	/**
+	 * This method saves the run to the checkpoint file
+	 * @param scheduler This is the engine of the run
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void save(TableScheduler scheduler) throws IOException {
+		Path temporary = file.resolveSibling(file.getFileName()+".tmp");
+		try(FileOutputStream stream = new FileOutputStream(temporary.toFile())) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(trace.getAlgorithm());
+			out.writeInt(trace.getQuantum());
+			out.writeLong(Files.size(traceFile));
+			trace.writeState(out);
+			report.writeState(out);
+			table.writeState(out);
+			scheduler.writeState(out);
+			out.flush();
+			//the checkpoint is on the disk before it replaces the last one
+			stream.getFD().sync();
+		}
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * This method restores the run from the checkpoint file,
+	 * TableScheduler.resume carries on with it
+	 * @param scheduler This is the engine of the run
+	 * @param policy This is a new policy of the algorithm of the trace
+	 * @throws Exception throws an exception if the checkpoint can not be read
+	 * or belongs to a different trace
+	 */
+	public void restore(TableScheduler scheduler, SchedulingPolicy policy) throws Exception {
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+			if(in.readInt() != MAGIC) {
+				throw new Exception("[Error]: "+file+" is not a checkpoint");
+			}
+			int version = in.readInt();
+			if(version != VERSION) {
+				throw new Exception("[Error]: Unsupported checkpoint version "+version);
+			}
+			String algorithm = in.readUTF();
+			int quantum = in.readInt();
+			long traceLength = in.readLong();
+			if(!algorithm.equals(trace.getAlgorithm()) || quantum != trace.getQuantum()
+					|| traceLength != Files.size(traceFile)) {
+				throw new Exception("[Error]: The checkpoint "+file+" does not belong to the trace "+traceFile);
+			}
+			trace.readState(in);
+			report.readState(in);
+			table.readState(in);
+			scheduler.readState(policy, in);
+		}
+	}
+
+	/**
+	 * This method deletes the checkpoint file once the run is complete
+	 * @throws IOException throws an exception if the file can not be deleted
+	 */
+	public void delete() throws IOException {
+		Files.deleteIfExists(file);
+	}
+}
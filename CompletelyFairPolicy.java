@@ -0,0 +1,292 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * This is the completely fair scheduler (CFS) policy of the table engine.
+ *
+ * Every process has a virtual runtime, the time it ran scaled by the inverse
+ * of its weight, and the ready process with the smallest virtual runtime runs
+ * next (IndexHeap, O(log n)). So a process with twice the weight gets twice
+ * the cpu time before it is passed by the others.
+ *
+ * There is no fixed quantum. Every ready process should run once within the
+ * target latency, so the time slice of a process is its share of the target
+ * latency by weight, but never less than the minimum granularity (with many
+ * ready processes the period grows to minimum granularity per process).
+ *
+ * The priority of a process is its nice value (0 to 19, the priorities of
+ * the input file are clamped and a process without a priority is nice 0)
+ * and is mapped to the weights of the Linux scheduler, every nice level
+ * is about 1.25 times the cpu time of the next.
+ *
+ * A process that arrives starts at the smallest virtual runtime of the
+ * ready processes, so it does not get the cpu time it missed before its arrival.
+ * The engine stops the running process at every arrival, but it keeps running
+ * until its time slice is used up, which is shorter now that more processes
+ * share the target latency. Only then is it charged for the time it ran
+ * (SmpScheduler hands the stopped process back instead, so it is charged
+ * at once and starts a new time slice when it is picked again).
+ */
+public class CompletelyFairPolicy implements SchedulingPolicy {
+
+	//these are the default target latency and minimum granularity (the Linux 6ms and 0.75ms ratio)
+	public static final int DEFAULT_TARGET_LATENCY = 24;
+	public static final int DEFAULT_MIN_GRANULARITY = 3;
+	//this is the weight of nice 0
+	private static final int NICE_0_WEIGHT = 1024;
+	//these are the weights of nice 0 to 19 (sched_prio_to_weight of the Linux scheduler)
+	private static final int[] WEIGHTS = {
+		1024, 820, 655, 526, 423, 335, 272, 215, 172, 137,
+		110, 87, 70, 56, 45, 36, 29, 23, 18, 15
+	};
+	//this is the fixed point shift of the virtual runtime (1/1024 of a weighted time unit)
+	private static final int VRUNTIME_SHIFT = 10;
+
+	//this is the heap readyQueue ordered by virtual runtime
+	private final IndexHeap readyQueue;
+	//this is the time in which every ready process should run once
+	private final int targetLatency;
+	//this is the shortest time slice
+	private final int minGranularity;
+	//this is the smallest virtual runtime of the ready processes (it never decreases)
+	private long minVruntime;
+	//this is the sum of the weights of the ready processes
+	private long totalWeight;
+	//these are the virtual runtime of every process and its remaining time when it was last charged
+	private long[] vruntime = new long[0];
+	private int[] charged = new int[0];
+	//this is true for the processes in the readyQueue
+	private boolean[] queued = new boolean[0];
+	//this is the process that runs its time slice (-1 for none)
+	private int current = -1;
+	//this is the remaining time of the current process when its time slice started
+	private int sliceStart;
+	//this is the process table that is scheduled
+	private ProcessTable table;
+
+	/**
+	 * This is the standard constructor for the policy
+	 * @param readyQueue This is the readyQueue (it is cleared by begin)
+	 * @param targetLatency This is the time in which every ready process should run once
+	 * @param minGranularity This is the shortest time slice
+	 * @throws Exception throws an exception if the minimum granularity is less than 1
+	 * or more than the target latency
+	 */
+	public CompletelyFairPolicy(IndexHeap readyQueue, int targetLatency, int minGranularity) throws Exception {
+		if(minGranularity < 1 || minGranularity > targetLatency) {
+			throw new Exception("[Error]: The CFS minimum granularity must be between 1 and the target latency");
+		}
+		this.readyQueue = readyQueue;
+		this.targetLatency = targetLatency;
+		this.minGranularity = minGranularity;
+	}
+
+	/**
+	 * This method creates the policy with the default target latency and minimum granularity
+	 * @return Returns the policy
+	 * @throws Exception throws an exception if the defaults are incorrect
+	 */
+	public static CompletelyFairPolicy withDefaults() throws Exception {
+		return new CompletelyFairPolicy(new IndexHeap(false), DEFAULT_TARGET_LATENCY, DEFAULT_MIN_GRANULARITY);
+	}
+
+	/**
+	 * This method empties the readyQueue before a run
+	 * @param table This is the process table that is scheduled
+	 */
+	public void begin(ProcessTable table) {
+		this.table = table;
+		readyQueue.clear();
+		minVruntime = 0;
+		totalWeight = 0;
+		current = -1;
+	}
+
+	/**
+	 * This method adds an arrived process to the readyQueue. A process that already
+	 * ran is handed back by another engine and is charged for the time it ran.
+	 * @param p This is the index of the process
+	 * @return Returns true, every process is run
+	 */
+	public boolean onArrival(int p) {
+		if(p >= vruntime.length) {
+			//the table of a streamed trace grows while it is scheduled
+			int capacity = Math.max(p + 1, table.remaining.length);
+			vruntime = Arrays.copyOf(vruntime, capacity);
+			charged = Arrays.copyOf(charged, capacity);
+			queued = Arrays.copyOf(queued, capacity);
+		}
+		if(table.start[p] < 0) {
+			//a new process starts with the ready processes instead of far behind them
+			vruntime[p] = minVruntime;
+			charged[p] = table.remaining[p];
+		}
+		else {
+			charge(p);
+			vruntime[p] = Math.max(vruntime[p], minVruntime);
+		}
+		readyQueue.add(p, vruntime[p]);
+		queued[p] = true;
+		totalWeight += weight(p);
+		return true;
+	}
+
+	/**
+	 * This method returns if a process is ready to run
+	 * @return Returns true if the readyQueue is not empty
+	 */
+	public boolean hasReady() {
+		return !readyQueue.isEmpty();
+	}
+
+	/**
+	 * This method returns the process with the smallest virtual runtime,
+	 * the current process runs on until its time slice is used up
+	 * @return Returns the index of the process
+	 */
+	public int pickNext() {
+		int p = readyQueue.peek();
+		if(p == current && sliceStart - table.remaining[p] >= idealSlice(p)) {
+			//the time slice is used up, the process goes back by its virtual runtime
+			charge(p);
+			readyQueue.updateTopKey(vruntime[p]);
+			updateMinVruntime();
+			current = -1;
+			p = readyQueue.peek();
+		}
+		if(p != current) {
+			current = p;
+			sliceStart = table.remaining[p];
+		}
+		return p;
+	}
+
+	/**
+	 * This method returns how long a process may run before it is preempted
+	 * @param p This is the index of the process
+	 * @return Returns what is left of the time slice of the process
+	 */
+	public long timeSlice(int p) {
+		if(p != current) {
+			return idealSlice(p);
+		}
+		return Math.max(idealSlice(p) - (sliceStart - table.remaining[p]), 1);
+	}
+
+	/**
+	 * This method returns if an arrival preempts the running process
+	 * @return Returns true, the time slice is shorter after an arrival
+	 */
+	public boolean preemptsOnArrival() {
+		return true;
+	}
+
+	/**
+	 * This method is called when the running process stopped at an arrival
+	 * or at the end of its time slice, it is charged when it is picked again
+	 * @param p This is the index of the process
+	 */
+	public void onPreempt(int p) {
+		//the process is still at the top of the heap and pickNext decides if its time slice is over
+	}
+
+	/**
+	 * This method removes the completed process from the readyQueue
+	 * @param p This is the index of the process
+	 */
+	public void onComplete(int p) {
+		charge(p);
+		readyQueue.poll();
+		queued[p] = false;
+		totalWeight -= weight(p);
+		current = -1;
+		updateMinVruntime();
+	}
+
+	/**
+	 * This method writes the readyQueue, the current time slice and the virtual
+	 * runtime of every process to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeLong(minVruntime);
+		out.writeLong(totalWeight);
+		out.writeInt(current);
+		out.writeInt(sliceStart);
+		readyQueue.writeState(out);
+		out.writeInt(vruntime.length);
+		for(int p = 0; p < vruntime.length; p++) {
+			out.writeLong(vruntime[p]);
+			out.writeInt(charged[p]);
+			out.writeBoolean(queued[p]);
+		}
+	}
+
+	/**
+	 * This method replaces the readyQueue, the current time slice and the virtual
+	 * runtime of every process with those of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		minVruntime = in.readLong();
+		totalWeight = in.readLong();
+		current = in.readInt();
+		sliceStart = in.readInt();
+		readyQueue.readState(in);
+		int capacity = in.readInt();
+		vruntime = new long[capacity];
+		charged = new int[capacity];
+		queued = new boolean[capacity];
+		for(int p = 0; p < capacity; p++) {
+			vruntime[p] = in.readLong();
+			charged[p] = in.readInt();
+			queued[p] = in.readBoolean();
+		}
+	}
+
+	/**
+	 * This method returns the share of a process of the target latency by weight
+	 * @param p This is the index of the process
+	 * @return Returns the time slice, at least the minimum granularity
+	 */
+	private long idealSlice(int p) {
+		//an engine that takes the process off the readyQueue (SmpScheduler) still counts it
+		long ready = readyQueue.size() + (queued[p] ? 0 : 1);
+		long total = totalWeight + (queued[p] ? 0 : weight(p));
+		long period = Math.max(targetLatency, ready * minGranularity);
+		return Math.max(period * weight(p) / total, minGranularity);
+	}
+
+	/**
+	 * This method adds the time a process ran since it was last charged to its virtual runtime
+	 * @param p This is the index of the process
+	 */
+	private void charge(int p) {
+		long ran = charged[p] - table.remaining[p];
+		vruntime[p] += (ran * NICE_0_WEIGHT << VRUNTIME_SHIFT) / weight(p);
+		charged[p] = table.remaining[p];
+	}
+
+	/**
+	 * This method moves the smallest virtual runtime up to the next process
+	 */
+	private void updateMinVruntime() {
+		if(!readyQueue.isEmpty()) {
+			minVruntime = Math.max(minVruntime, vruntime[readyQueue.peek()]);
+		}
+	}
+
+	/**
+	 * This method returns the weight of a process from its priority
+	 * @param p This is the index of the process
+	 * @return Returns the weight of the nice value of the process
+	 */
+	private int weight(int p) {
+		int nice = Math.min(Math.max(table.priority(p), 0), WEIGHTS.length - 1);
+		return WEIGHTS[nice];
+	}
+}
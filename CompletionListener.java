@@ -0,0 +1,16 @@
+/**
+ * This is the callback of the table engine (TableScheduler)
+ * that is called every time a process completes.
+ */
+public interface CompletionListener {
+
+	/**
+	 * This method is called when a process completes. The final
+	 * attributes of the process are in its row of the process table,
+	 * the row may be released after the method returns.
+	 * @param table This is the process table
+	 * @param row This is the index of the completed process
+	 * @throws Exception throws an exception if the result can not be handled
+	 */
+	void completed(ProcessTable table, int row) throws Exception;
+}
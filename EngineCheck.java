@@ -0,0 +1,1336 @@
+import java.io.File;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.SplittableRandom;
+
+/**
+ * This program checks that the engines give the same results.
+ *
+ * Every input file is solved by:
+ * # the Process object methods (the reference, see below, for the six original algorithms)
+ * # the program (the scheduling policies of the table engine)
+ * # the busy period engine (--parallel)
+ * # the table engine over a binary workload (BinaryWorkload)
+ * # the streamed row trace (--stream) of the same processes
+ * # the online scheduler (OnlineScheduler) fed the same processes
+ *
+ * The reports must be the same line for line. The reference does not
+ * print the scheduling statistics, so that section is left out when it is
+ * compared, and the binary workload is compared from its first process on
+ * (the data echo of a binary workload is different). A streamed trace and the online scheduler print the
+ * processes in the order they complete, so only the sorted lines of their
+ * processes are compared.
+ *
+ * The reference is the Process object methods that ProcessScheduling ran
+ * before the scheduling policies replaced them. They are kept here as they
+ * were and no run of the program uses them.
+ *
+ * The inputs are every .txt file of the given files and directories and
+ * seeded random inputs of every algorithm: with and without idle gaps,
+ * equal arrival times, arrivals out of input order and zero burst times.
+ *
+ * A generated light load of every algorithm on several cpus (--cpus) with
+ * work stealing must keep the cpus about as busy as each other and only
+ * steal a few processes.
+ *
+ * Usage: java EngineCheck [--seed=s] [--count=n] [inputfiles or directories]
+ * # --seed=s seed of the random inputs (default 1)
+ * # --count=n random inputs per algorithm (default 100)
+ * # the default input directory is "example data"
+ * The program exits with status 1 if any engine is different.
+ */
+public class EngineCheck {
+
+	//these are the algorithms of the random inputs
+	private static final String[] ALGORITHMS = {"FCFS", "SJF", "SRTN", "RR", "NPP", "PP", "MLFQ", "CFS"};
+	//these are the algorithms that the reference solves
+	private static final String[] OBJECT_ALGORITHMS = {"FCFS", "SJF", "SRTN", "RR", "NPP", "PP"};
+	//this is the first line of the scheduling statistics of a report
+	private static final String STATISTICS = "----------- Scheduling Statistics -----------";
+	//this is the number of threads of the busy period engine
+	private static final String THREADS = "--threads=3";
+	//these are the cpus, the processes and the load of the multi-cpu check
+	private static final int CPUS = 4;
+	private static final int CPU_PROCESSES = 20000;
+	private static final double CPU_LOAD = 0.5;
+
+	//these are the number of checked inputs and of differences
+	private int inputs;
+	private int differences;
+	//this is the directory of the random inputs and the binary workloads
+	private final Path scratch;
+
+	/**
+	 * This is the standard constructor for the check
+	 * @param scratch This is the directory of the random inputs and the binary workloads
+	 */
+	private EngineCheck(Path scratch) {
+		this.scratch = scratch;
+	}
+
+	/**
+	 * This method solves an input file with every engine and compares the reports
+	 * @param inputFile This is the directory path of the input file
+	 * @throws Exception throws an exception if the input can not be solved
+	 */
+	private void check(String inputFile) throws Exception {
+		inputs++;
+		InputParser input = InputParser.parse(inputFile);
+		String algorithm = input.getAlgorithm().toUpperCase();
+		String table = report(inputFile);
+		if(Arrays.asList(OBJECT_ALGORITHMS).contains(algorithm)) {
+			compare(inputFile, "table", reference(inputFile), withoutStatistics(table));
+		}
+		compare(inputFile, "parallel", table, report("--parallel", THREADS, inputFile));
+		//a binary workload and a row trace only hold the default MLFQ and CFS settings
+		Path binary = scratch.resolve("check.bin");
+		try {
+			BinaryWorkload.convert(inputFile, binary.toString());
+		}
+		catch(Exception e) {
+			return;
+		}
+		compare(inputFile, "binary", fromFirstProcess(table), fromFirstProcess(report(binary.toString())));
+		//a streamed trace prints the processes in the order they complete
+		String trace = writeTrace(algorithm, input.getFileContents());
+		compare(inputFile, "stream", processes(table), processes(report("--stream", trace)));
+		compare(inputFile, "online", processes(table), processes(online(algorithm, input.getFileContents())));
+	}
+
+	/**
+	 * This method submits the processes of an input file to the online
+	 * scheduler in order of arrival and returns the completed processes
+	 * @param algorithm This is the algorithm of the input file
+	 * @param fileContents These are the lines of the input file
+	 * @return Returns every process the completion listener printed
+	 * @throws Exception throws an exception if a process can not be submitted
+	 */
+	private static String online(String algorithm, ArrayList<int[]> fileContents) throws Exception {
+		//the fourth line is the quantum for RR and MLFQ and the priorities otherwise
+		boolean withQuantum = algorithm.equals("RR") || algorithm.equals("MLFQ");
+		boolean hasPriority = fileContents.size() > 3 && !withQuantum;
+		boolean withResponse = withQuantum || algorithm.equals("CFS");
+		StringWriter output = new StringWriter();
+		ReportWriter report = new ReportWriter(output, output, false);
+		OnlineScheduler online = new OnlineScheduler(algorithm, withQuantum ? fileContents.get(3)[0] : 0,
+				(completedTable, row) -> report.process(completedTable, row, withResponse));
+		for(int i : arrivalOrder(fileContents.get(1))) {
+			int arrival = fileContents.get(1)[i];
+			online.advanceTo(Math.max(arrival, online.getTime()));
+			online.submit(fileContents.get(0)[i], arrival, fileContents.get(2)[i],
+					hasPriority ? fileContents.get(3)[i] : -1);
+		}
+		online.drain();
+		report.close();
+		return output.toString();
+	}
+
+	/**
+	 * This method writes the processes of an input file as a row trace
+	 * (TraceReader), one process per line in order of arrival
+	 * @param algorithm This is the algorithm of the input file
+	 * @param fileContents These are the lines of the input file
+	 * @return Returns the directory path of the trace
+	 * @throws Exception throws an exception if the trace can not be written
+	 */
+	private String writeTrace(String algorithm, ArrayList<int[]> fileContents) throws Exception {
+		//the fourth line is the quantum for RR and MLFQ and the priorities otherwise
+		boolean withQuantum = algorithm.equals("RR") || algorithm.equals("MLFQ");
+		boolean hasPriority = fileContents.size() > 3 && !withQuantum;
+		StringBuilder text = new StringBuilder(algorithm);
+		if(withQuantum) {
+			text.append(',').append(fileContents.get(3)[0]);
+		}
+		text.append('\n');
+		for(int i : arrivalOrder(fileContents.get(1))) {
+			text.append(fileContents.get(0)[i]).append(',').append(fileContents.get(1)[i])
+				.append(',').append(fileContents.get(2)[i]);
+			if(hasPriority) {
+				text.append(',').append(fileContents.get(3)[i]);
+			}
+			text.append('\n');
+		}
+		Path file = scratch.resolve("check.trace");
+		Files.writeString(file, text);
+		return file.toString();
+	}
+
+	/**
+	 * This method returns the indexes of the processes in order of arrival
+	 * (equal arrival times in input order)
+	 * @param arrivalTime These are the arrival times of the processes
+	 * @return Returns the sorted indexes
+	 */
+	private static Integer[] arrivalOrder(int[] arrivalTime) {
+		Integer[] order = new Integer[arrivalTime.length];
+		for(int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		//the sort is stable
+		Arrays.sort(order, (a, b) -> Integer.compare(arrivalTime[a], arrivalTime[b]));
+		return order;
+	}
+
+	/**
+	 * This method checks that a light load on several cpus with work stealing
+	 * keeps every cpu about as busy as the others and only steals a few processes
+	 * (every idle cpu takes its own processes before it steals)
+	 * @param algorithm This is the algorithm of the generated workload
+	 * @throws Exception throws an exception if the workload can not be generated or solved
+	 */
+	private void checkCpus(String algorithm) throws Exception {
+		inputs++;
+		Path file = scratch.resolve("cpus.txt");
+		WorkloadGenerator generator = WorkloadGenerator.parse(new String[] {"--algorithm="+algorithm,
+				"--count="+CPU_PROCESSES, "--load="+CPU_LOAD, file.toString()});
+		try(Writer out = Files.newBufferedWriter(file)) {
+			generator.write(out);
+		}
+		ArrayList<int[]> fileContents = InputParser.parse(file.toString()).getFileContents();
+		Files.delete(file);
+		//the fourth line is the quantum for RR and MLFQ and the priorities otherwise
+		boolean isRoundRobin = algorithm.equals("RR") || algorithm.equals("MLFQ");
+		boolean hasPriority = fileContents.size() > 3 && !isRoundRobin;
+		ProcessTable table = new ProcessTable(new Workload(fileContents.get(0), fileContents.get(1),
+				fileContents.get(2), hasPriority ? fileContents.get(3) : null));
+		SmpScheduler scheduler = new SmpScheduler(table, algorithm, isRoundRobin ? fileContents.get(3)[0] : 0,
+				CPUS, false, true);
+		scheduler.setRecordChart(false);
+		scheduler.run();
+		double least = 1;
+		double most = 0;
+		for(int c = 0; c < CPUS; c++) {
+			least = Math.min(least, scheduler.getUtilization(c));
+			most = Math.max(most, scheduler.getUtilization(c));
+		}
+		//the cpus are within a fifth of each other and steal from at most one process in twenty
+		if(least < 0.8 * most || scheduler.getSteals() > CPU_PROCESSES / 20) {
+			differences++;
+			System.out.println("DIFF cpus "+algorithm+" on "+CPUS+" cpus: utilization from "
+					+String.format("%.2f%% to %.2f%%", 100 * least, 100 * most)
+					+", "+scheduler.getSteals()+" stolen processes");
+		}
+	}
+
+	/**
+	 * This method runs the program on an input file and returns its report
+	 * @param args These are the runtime arguments
+	 * @return Returns everything the run printed
+	 * @throws Exception throws an exception if the input can not be solved
+	 */
+	private static String report(String... args) throws Exception {
+		StringWriter output = new StringWriter();
+		ProcessScheduling.setReport(new ReportWriter(output, output, false));
+		try {
+			ProcessScheduling.run(RunOptions.parse(args));
+			ProcessScheduling.report().close();
+		}
+		finally {
+			ProcessScheduling.setReport(null);
+		}
+		return output.toString();
+	}
+
+	/**
+	 * This method solves an input file with the Process object methods of
+	 * the reference and returns the report they printed
+	 * @param inputFile This is the directory path of the input file
+	 * @return Returns everything the reference printed
+	 * @throws Exception throws an exception if the input can not be solved
+	 */
+	private static String reference(String inputFile) throws Exception {
+		InputParser input = InputParser.parse(inputFile);
+		StringWriter output = new StringWriter();
+		ProcessScheduling.setReport(new ReportWriter(output, output, false));
+		try {
+			ProcessScheduling.printFileContents(input.getFileContents(), input.getAlgorithm());
+			analyzeAndRunFileInput(input.getFileContents(), input.getAlgorithm());
+			ProcessScheduling.report().close();
+		}
+		finally {
+			ProcessScheduling.setReport(null);
+		}
+		return output.toString();
+	}
+
+	/**
+	 * This method compares the report of an engine with the expected report
+	 * (the reference for the program, the program for the others)
+	 * and printout the first line that is different
+	 * @param inputFile This is the directory path of the input file
+	 * @param engine This is the name of the engine that is checked
+	 * @param expected This is the expected report
+	 * @param actual This is the report of the engine
+	 */
+	private void compare(String inputFile, String engine, String expected, String actual) {
+		if(expected.equals(actual)) {
+			return;
+		}
+		differences++;
+		String[] expectedLines = expected.split("\\R", -1);
+		String[] actualLines = actual.split("\\R", -1);
+		int line = 0;
+		while(line < expectedLines.length && line < actualLines.length
+				&& expectedLines[line].equals(actualLines[line])) {
+			line++;
+		}
+		System.out.println("DIFF "+engine+" "+inputFile+" at line "+(line + 1)+":");
+		System.out.println("  expected: "+(line < expectedLines.length ? expectedLines[line] : "(end)"));
+		System.out.println("  actual:   "+(line < actualLines.length ? actualLines[line] : "(end)"));
+	}
+
+	/**
+	 * This method removes the scheduling statistics from a report
+	 * @param report This is the report of the program
+	 * @return Returns the report up to the scheduling statistics
+	 */
+	private static String withoutStatistics(String report) {
+		int start = report.indexOf(STATISTICS);
+		return start < 0 ? report : report.substring(0, start);
+	}
+
+	/**
+	 * This method removes the data echo from a report
+	 * @param report This is the report
+	 * @return Returns the report from the first process on
+	 */
+	private static String fromFirstProcess(String report) {
+		int start = report.indexOf("[P");
+		return start < 0 ? report : report.substring(start);
+	}
+
+	/**
+	 * This method returns the completed processes of a report in order of
+	 * their lines, so reports that print them in a different order can be compared
+	 * @param report This is the report
+	 * @return Returns the sorted lines of the completed processes
+	 */
+	private static String processes(String report) {
+		ArrayList<String> lines = new ArrayList<String>();
+		for(String line : report.split("\\R")) {
+			if(line.startsWith("[P")) {
+				lines.add(line);
+			}
+		}
+		lines.sort(null);
+		return String.join(System.lineSeparator(), lines);
+	}
+
+	/**
+	 * This method writes a random input file
+	 * @param random This is the random stream of the inputs
+	 * @param algorithm This is the algorithm of the input
+	 * @param index This is the number of the input
+	 * @return Returns the directory path of the input file
+	 * @throws Exception throws an exception if the file can not be written
+	 */
+	private String randomInput(SplittableRandom random, String algorithm, int index) throws Exception {
+		int n = random.nextInt(1, 16);
+		int[] arrival = new int[n];
+		int[] burst = new int[n];
+		int[] priority = new int[n];
+		boolean gaps = random.nextBoolean();
+		int time = 0;
+		for(int i = 0; i < n; i++) {
+			//equal arrival times, short gaps and idle gaps
+			time += random.nextInt(4) + (gaps && random.nextInt(4) == 0 ? 20 : 0);
+			arrival[i] = time;
+			//round robin drops the processes without a burst time
+			burst[i] = algorithm.equals("RR") && random.nextInt(8) == 0 ? 0 : random.nextInt(1, 10);
+			priority[i] = random.nextInt(1, 5);
+		}
+		//every fourth input does not list the processes in order of arrival
+		if(random.nextInt(4) == 0) {
+			for(int i = n - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				int swap = arrival[i];
+				arrival[i] = arrival[j];
+				arrival[j] = swap;
+			}
+		}
+		int[] number = new int[n];
+		for(int i = 0; i < n; i++) {
+			number[i] = i + 1;
+		}
+		StringBuilder text = new StringBuilder(algorithm).append('\n');
+		text.append(join(number)).append('\n').append(join(arrival)).append('\n').append(join(burst)).append('\n');
+		int quantum = random.nextInt(1, 6);
+		if(algorithm.equals("RR")) {
+			text.append(quantum).append('\n');
+		}
+		else if(algorithm.equals("NPP") || algorithm.equals("PP")) {
+			text.append(join(priority)).append('\n');
+		}
+		else if(algorithm.equals("MLFQ")) {
+			//half of the inputs have the default levels that a binary workload holds
+			int[] quanta = random.nextBoolean() ? new int[] {quantum, quantum * 2, quantum * 4}
+					: new int[] {quantum, quantum + random.nextInt(1, 4)};
+			text.append(join(quanta)).append('\n');
+			if(random.nextInt(3) == 0) {
+				text.append(random.nextInt(0, 40)).append('\n');
+			}
+		}
+		else if(algorithm.equals("CFS") && random.nextBoolean()) {
+			//the nice values and sometimes the target latency and minimum granularity
+			for(int i = 0; i < n; i++) {
+				priority[i] = random.nextInt(0, 20);
+			}
+			text.append(join(priority)).append('\n');
+			if(random.nextBoolean()) {
+				int granularity = random.nextInt(1, 5);
+				text.append(granularity * random.nextInt(1, 8)).append(',').append(granularity).append('\n');
+			}
+		}
+		Path file = scratch.resolve(algorithm+"_"+index+".txt");
+		Files.writeString(file, text);
+		return file.toString();
+	}
+
+	/**
+	 * This method joins the values of an int array with commas
+	 * @param values This is the int array
+	 * @return Returns the values as a line of an input file
+	 */
+	private static String join(int[] values) {
+		StringBuilder line = new StringBuilder();
+		for(int i = 0; i < values.length; i++) {
+			if(i > 0) {
+				line.append(',');
+			}
+			line.append(values[i]);
+		}
+		return line.toString();
+	}
+
+	/**
+	 * This method adds the .txt files of an input file or directory
+	 * @param input This is the input file or directory
+	 * @param files These are the input files so far
+	 * @throws Exception throws an exception if the input does not exist
+	 */
+	private static void expand(String input, ArrayList<String> files) throws Exception {
+		File file = new File(input);
+		if(file.isDirectory()) {
+			File[] children = file.listFiles((dir, name) -> name.endsWith(".txt"));
+			if(children == null) {
+				throw new Exception("[Error]: "+input+" cannot be read");
+			}
+			Arrays.sort(children);
+			for(File child : children) {
+				files.add(child.getPath());
+			}
+		}
+		else if(file.isFile()) {
+			files.add(input);
+		}
+		else {
+			throw new Exception("[Error]: "+input+" cannot be found");
+		}
+	}
+
+	/**
+	 * This is the driver method of the check.
+	 * @param args The seed, the number of random inputs and the input files (all optional)
+	 * @throws Exception throws an exception if an input can not be solved
+	 */
+	public static void main(String[] args) throws Exception {
+		long seed = 1;
+		int count = 100;
+		ArrayList<String> files = new ArrayList<String>();
+		for(String arg : args) {
+			if(arg.startsWith("--seed=")) {
+				seed = Long.parseLong(arg.substring(7));
+			}
+			else if(arg.startsWith("--count=")) {
+				count = Integer.parseInt(arg.substring(8));
+			}
+			else {
+				expand(arg, files);
+			}
+		}
+		if(files.isEmpty() && new File("example data").isDirectory()) {
+			expand("example data", files);
+		}
+		Path scratch = Files.createTempDirectory("engine-check");
+		EngineCheck check = new EngineCheck(scratch);
+		try {
+			for(String file : files) {
+				check.check(file);
+			}
+			SplittableRandom random = new SplittableRandom(seed);
+			for(String algorithm : ALGORITHMS) {
+				for(int i = 0; i < count; i++) {
+					String file = check.randomInput(random, algorithm, i);
+					check.check(file);
+					Files.delete(Path.of(file));
+				}
+				check.checkCpus(algorithm);
+			}
+		}
+		finally {
+			Files.deleteIfExists(scratch.resolve("check.bin"));
+			Files.deleteIfExists(scratch.resolve("check.trace"));
+			Files.deleteIfExists(scratch);
+		}
+		System.out.println("Checked "+check.inputs+" inputs, "+check.differences+" differences");
+		if(check.differences > 0) {
+			System.exit(1);
+		}
+	}
+
+	/*
+	 * The reference
+	 * 
+	 * These are the Process object methods that solved the input files
+	 * before the scheduling policies of the table engine replaced them.
+	 */
+	
+	/**
+	 * This method take the scanned ArrayList content
+	 * and algorithm input and executes the correct 
+	 * Process object method for solving the process scheduling routine
+	 * @param fileContents This is an ArrayList that store the contents of the
+	 * input file
+	 * @param algorithm This is a string value for the selected algorithm in the 
+	 * file
+	 * @throws Exception throws exception if the input is incorrect
+	 */
+	private static void analyzeAndRunFileInput(ArrayList<int[]> fileContents, String algorithm) throws Exception {
+		/*
+		 * parse and run the first come first serve method with process inputs
+		 * from the fileContents ArrayList
+		 *
+		 * For reference of the positions of fileContents in relation to the 
+		 * rolls of data in relation of the algorithm:
+		 * fileContents.get(0) = processNumber[]
+		 * fileContents.get(1) = arrivalTime[]
+		 * fileContents.get(2) = burstTime[]
+		 * fileContents.get(3)[0] = quantum time for Round Robin only
+		 * or...
+		 * fileContents.get(3) = process priority for NPP and PP only
+		 * 
+		 */
+		//Run first come first serve with the given parameters
+		if(algorithm.equalsIgnoreCase("FCFS")) {
+			fcfs(fileContents.get(0),fileContents.get(1),fileContents.get(2));
+		}
+		//Run shortest time remaining next with the given parameters
+		if(algorithm.equalsIgnoreCase("SRTN")) {
+			srtn(fileContents.get(0),
+					fileContents.get(1),
+					fileContents.get(2));
+		}
+		//Run round robin with the given parameters
+		if(algorithm.equalsIgnoreCase("RR")) {
+			rr(fileContents.get(0),
+				fileContents.get(1),
+				fileContents.get(2),
+				fileContents.get(3)[0]);
+		}
+		//Run non-preemptive priority with the given parameters
+		if(algorithm.equalsIgnoreCase("NPP")) {
+			npp(fileContents.get(0),
+				fileContents.get(1),
+				fileContents.get(2),
+				fileContents.get(3));
+		}
+		//Run preemptive priority with the given parameters
+		if(algorithm.equalsIgnoreCase("PP")) {
+			pp(fileContents.get(0),fileContents.get(1),
+				fileContents.get(2),
+				fileContents.get(3));
+		}
+		//Run shortest job first priority with the given parameters
+		if(algorithm.equalsIgnoreCase("SJF")) {
+			sjf(fileContents.get(0),
+				 fileContents.get(1),
+				 fileContents.get(2));
+		}
+	}
+	
+	/*
+	 * Process Scheduling Algorithms
+	 * 
+	 * Functions used to solve for the final results of each process
+	 * turnaround time = (exit time) - (arrival time)
+	 * wait time = (exit time) - (arrival time) - (execution time)
+	 * Response time =  (first execution time) - (arrival time)
+	 */
+	
+	/**
+	 * This method solves the given processes with the 
+	 * first come first serve scheduling algorithm.
+	 * @param processNumber This is a int array that holds the process numbers for the processes
+	 * @param arrivalTime This is a int array that holds the arrival times for the processes
+	 * @param burstTime This is a int array that hold the burst times for the processes
+	 * @throws Exception throws exception if subroutine(s) encounter an exception
+	 */
+	
+	/*
+	 * First Come First Serve Algorithm pseudo Code
+	 * 
+	 * for each process in order of arrival
+	 * 		if the process has not arrived yet
+	 * 			jump time to the arrival time of the process
+	 * 		end if
+	 * 		execute the processes and update the final output variables
+	 * print results
+	 */
+	private static void fcfs(int[] processNumber, int[] arrivalTime, int[] burstTime) throws Exception {
+		//This is a arraylist that holds all of the processes generated by the parameters
+		ArrayList<Process> allProcesses = generateProcesses(processNumber,arrivalTime,burstTime);
+		//create the arrival cursor over the processes in order of arrival
+		ArrivalCursor arrivals = new ArrivalCursor(allProcesses);
+		//create time variable
+		int time  = 0;
+		//create the gantt chart at the starting time
+		GanttChart chart = new GanttChart(time);
+		
+		while(!arrivals.isEmpty()) {
+			//if the cpu is idle then jump to the next arrival time
+			time = skipIdleTime(arrivals,time,chart);
+			//get the next process in order of arrival
+			Process current = arrivals.next();
+			//update time
+			time = time + current.getExecutionTime();
+			//update the exit time
+			current.setExitTime(time);
+			//update the gantt chart
+			chart.add(time,current.getProcessNumber());
+			//create all of the variables for all of the final attributes
+			int exit = current.getExitTime();
+			int arrival = current.getArrivalTime();
+			int execution = current.getExecutionTime();
+			//update wait time
+			current.setWaitTime(exit-arrival-execution);
+			//update turn around time
+			current.setTurnAroundTime(exit-arrival);	
+			//record the completed process in the statistics
+			ProcessScheduling.report().completed(current);
+		}
+		//printout all of the processes
+		for(int i = 0; i < allProcesses.size(); i++) {
+			ProcessScheduling.report().process(allProcesses.get(i));
+		}
+		//printout the gantt chart
+		ProcessScheduling.formatGanttChart(chart);
+	}
+	
+	/**
+	 * This method solves the given processes with the 
+	 * shortest remaining time next scheduling algorithm.
+	 * @param processNumber This is a int array that holds the process numbers for the processes
+	 * @param arrivalTime This is a int array that holds the arrival times for the processes
+	 * @param burstTime This is a int array that hold the burst times for the processes
+	 * @throws Exception throws exception if subroutine(s) encounter an exception
+	 */
+	
+	/*
+	 * Shortest Time Remaining next Algorithm pseudo code
+	 * 
+	 * while readyQueue is not empty or processes have yet to arrive
+	 * 		if readyQueue is empty
+	 * 			jump time to the next arrival time
+	 * 		end if
+	 * 		if there are no more processes that can arrive
+	 * 			terminate process
+	 * 			update time
+	 * 			update final variables 
+	 *		end if
+	 * 		else 
+	 * 			update burst time of process with the difference of the next arrival time
+	 * 			update time
+	 * 				if process is complete
+	 * 					update final variables
+	 * 					terminate process
+	 * 				end if
+	 * 			update readyQueue with new time
+	 * end else
+	 */
+	private static void srtn(int[] processes, int[] arrivalTimes, int[] burstTimes) throws Exception {
+		//create time variable
+		int time = 0;
+		//This is a arraylist that holds all of the processes generated by the parameters
+		ArrayList<Process> processList = generateProcesses(processes,arrivalTimes,burstTimes);
+		//This is a arraylist that hold all of the completed processs
+		ArrayList<Process> completedList = new ArrayList<Process>();
+
+		/**
+		 * create a shallow copy of the process list for the completedList 
+		 * The advantage of creating a shallow copy of the processList is that 
+		 * we don't need to worry with reintroducing the completed processes back
+		 * into the completedList in the correct order. Due to the memory associations
+		 * between both list, the completedList is already in order with the 
+		 * updated attributes upon program termination. This means that we don't
+		 * need an extra sorting algorithm for our final result, thus this saves
+		 * a fair amount of computational resources (not to mention extra code).
+		 */
+		//the completed processes are only kept to print them
+		if(!ProcessScheduling.report().isSummaryOnly()) {
+			completedList.addAll(processList);
+		}
+		//create the arrival cursor over the processes that have yet to arrive
+		ArrivalCursor arrivals = new ArrivalCursor(processList);
+		//create the readyQueue ordered by the current execution time left
+		ReadyHeap readyQueue = ReadyHeap.shortestRemainingTimeNext();
+		//update the ready queue at starting time
+		updateReadyQueue(arrivals,readyQueue,time);
+		//create the gantt chart at the starting time
+		GanttChart chart = new GanttChart(time);
+		//while there are processes in the readyQueue or processes that have yet to arrive
+		while(!readyQueue.isEmpty() || !arrivals.isEmpty()) {
+			//if the cpu is idle then jump to the next arrival time
+			if(readyQueue.isEmpty()) {
+				time = skipIdleTime(arrivals,time,chart);
+				updateReadyQueue(arrivals,readyQueue,time);
+			}
+			//get the process with the smallest execution time left
+			Process current = readyQueue.peek();
+			//if there are no more process to arrive 
+			if(arrivals.isEmpty()) {
+				//update time with the current execution time left plus the current time
+				time = time + current.getCurrentExecutionTimeLeft();
+				//update gantt chart
+				chart.add(time,current.getProcessNumber());
+				//update the current execution time left to zero
+				current.setCurrentExecutionTimeLeft(0);
+				//update the exit time to the current time
+				current.setExitTime(time);
+				//update the turn around time
+				current.setTurnAroundTime(current.getExitTime()-current.getArrivalTime());
+				//update the wait time
+				current.setWaitTime(current.getTurnAroundTime()-current.getExecutionTime());
+				//record the completed process in the statistics
+				ProcessScheduling.report().completed(current);
+				//remove the process from the readyQueue
+				readyQueue.poll();
+			}
+			//if there are processes that can still arrive
+			else {
+				//difference between current time to the next arrival time
+				int arrDiff = arrivals.peekArrivalTime() - time;
+				//if process is nearing completion
+				if(current.getCurrentExecutionTimeLeft() < arrDiff) {
+					//update time
+					time += current.getCurrentExecutionTimeLeft();
+					//update gantt chart
+					chart.add(time,current.getProcessNumber());
+					//set the current time left to zero
+					current.setCurrentExecutionTimeLeft(0);
+					//set the exit time to the current time
+					current.setExitTime(time);
+					//update the turn around time
+					current.setTurnAroundTime(current.getExitTime()-current.getArrivalTime());
+					//update the wait time 
+					current.setWaitTime(current.getTurnAroundTime()-current.getExecutionTime());
+					//record the completed process in the statistics
+					ProcessScheduling.report().completed(current);
+					//remove the process from the readyQueue
+					readyQueue.poll();
+					//update the readyQueue at the given time
+					updateReadyQueue(arrivals,readyQueue,time);
+				}
+				//if process has executionTimeLeft that is larger than the difference of the next arrival time
+				else {
+					//update the current execution time left to the arrival difference
+					//(the process keeps the smallest time left so it stays at the top of the heap)
+					current.setCurrentExecutionTimeLeft(current.getCurrentExecutionTimeLeft()-arrDiff);
+					//update time
+					time += arrDiff;
+					//update gantt chart
+					chart.add(time,current.getProcessNumber());
+					//update the readyQueue at the given time
+					updateReadyQueue(arrivals,readyQueue,time);
+				}
+			}
+		}
+		//printout the final result
+		for(int i = 0; i < completedList.size(); i++) {
+			ProcessScheduling.report().process(completedList.get(i));
+		}
+		//printout the gantt chart
+		ProcessScheduling.formatGanttChart(chart);
+	}
+	
+	/**
+	 * This method solves the given processes with the 
+	 * round robin process scheduling algorithm.
+	 * @param processNumber This is a int array that holds the process numbers for the processes
+	 * @param arrivalTime This is a int array that holds the arrival times for the processes
+	 * @param burstTime This is a int array that hold the burst times for the processes
+	 * @param quantum This is the quantum time that is used for the process functions
+	 * @throws Exception throws exception if subroutine(s) encounter an exception
+	 */
+	
+	/*
+	 * Round Robin Algorithm pseudo code
+	 * 
+	 * while readyQueue is not empty or processes have yet to arrive
+	 * 		if readyQueue is empty
+	 * 			jump time to the next arrival time
+	 * 		end if
+	 * 		if there are no more processes that can arrive
+	 * 			if the process time left is less than the quantum value
+	 * 				terminate process
+	 * 				update final variables
+	 * 			end if
+	 * 			else 
+	 * 				update process time left minus the current time minus quantum value
+	 *			end else
+	 *
+	 *			if process is compete
+	 *				terminate process
+	 *				update final variables
+	 *			end if
+	 *		end if
+	 * 		else 
+	 * 			update burst time of process with the difference of the quantum
+	 * 			update time
+	 * 				if process is complete
+	 * 					update final variables
+	 * 					terminate process
+	 * 				end if
+	 * 			update readyQueue with new time
+	 * end else
+	 */
+	private static void rr(int[] processes, int[] arrivalTimes, int[] burstTimes,
+		int quantum) throws Exception {
+			//create time variable
+			int time = 0;
+			//This is a arraylist that holds all of the processes generated by the parameters
+			ArrayList<Process> processList = generateProcesses(processes,arrivalTimes,burstTimes);
+			//This is a arraylist that hold all of the completed processs
+			ArrayList<Process> completedList = new ArrayList<Process>();
+			/**
+			 * create a shallow copy of the process list for the completedList 
+			 * The advantage of creating a shallow copy of the processList is that 
+			 * we don't need to worry with reintroducing the completed processes back
+			 * into the completedList in the correct order. Due to the memory associations
+			 * between both list, the completedList is already in order with the 
+			 * updated attributes upon program termination. This means that we don't
+			 * need an extra sorting algorithm for our final result, thus this saves
+			 * a fair amount of computational resources (not to mention extra code).
+			 */
+			//the completed processes are only kept to print them
+			if(!ProcessScheduling.report().isSummaryOnly()) {
+				completedList.addAll(processList);
+			}
+			//create the arrival cursor over the processes that have yet to arrive
+			ArrivalCursor arrivals = new ArrivalCursor(processList);
+			//create the readyQueue FIFO queue object
+			Queue<Process> readyQueue = new LinkedList<Process>();
+			//create the gantt chart at the starting time
+			GanttChart chart = new GanttChart(time);
+			//update the readyQueue
+			updateReadyQueue(arrivals,readyQueue,time);
+			//while there are processes in the readyQueue or processes that have yet to arrive
+			while(!readyQueue.isEmpty() || !arrivals.isEmpty()) {
+				//if the cpu is idle then jump to the next arrival time
+				if(readyQueue.isEmpty()) {
+					time = skipIdleTime(arrivals,time,chart);
+					updateReadyQueue(arrivals,readyQueue,time);
+				}
+				//if the process has not more execution time left
+				if(readyQueue.peek().getCurrentExecutionTimeLeft() == 0) {
+					//remove processs from readyQueue and record it in the statistics
+					ProcessScheduling.report().completed(readyQueue.poll());
+				}
+				//if the current execution time left is less than quantum
+				else if(readyQueue.peek().getCurrentExecutionTimeLeft() < quantum) {
+					//if the process just was introduced to the readyQueue
+					if(readyQueue.peek().getCurrentExecutionTimeLeft() == readyQueue.peek().getExecutionTime()) {
+						//update the start time
+						readyQueue.peek().setStartTime(time);
+					}
+					//update the time with the current time plus the current execution time left
+					time = time + readyQueue.peek().getCurrentExecutionTimeLeft();
+					//update gantt chart
+					chart.add(time,readyQueue.peek().getProcessNumber());
+					//update the current execution time left to zero
+					readyQueue.peek().setCurrentExecutionTimeLeft(0);
+					//if the current process is complete then update final variables
+					if(readyQueue.peek().getCurrentExecutionTimeLeft() == 0) {
+						//update exit time
+						readyQueue.peek().setExitTime(time);
+						//update turn around time
+						readyQueue.peek().setTurnAroundTime(((readyQueue.peek().getExitTime())-(readyQueue.peek().getArrivalTime())));
+						//update wait time
+						readyQueue.peek().setWaitTime((readyQueue.peek().getTurnAroundTime())-(readyQueue.peek().getExecutionTime()));
+						//update the response time
+						readyQueue.peek().setResponceTime((readyQueue.peek().getStartTime())-(readyQueue.peek().getArrivalTime()));
+					}
+					//update the readyQueue at the given time
+					updateReadyQueue(arrivals,readyQueue,time);
+					
+				}
+				else {
+					//if the process has just entered the readyQueue
+					if(readyQueue.peek().getCurrentExecutionTimeLeft() == readyQueue.peek().getExecutionTime()) {
+						//update the start time
+						readyQueue.peek().setStartTime(time);
+					}
+					//update current time to current time plus quantum
+					time = time + quantum;
+					//update readyQueue at the current time
+					updateReadyQueue(arrivals,readyQueue,time);
+					//update the gantt chart
+					chart.add(time,readyQueue.peek().getProcessNumber());
+					//update the current execution time left to the difference of itself minus quantum
+					readyQueue.peek().setCurrentExecutionTimeLeft(
+							readyQueue.peek().getCurrentExecutionTimeLeft()-quantum);
+					//if the process is complete then update the final attributes
+					if(readyQueue.peek().getCurrentExecutionTimeLeft() == 0) {
+						//update exit time
+						readyQueue.peek().setExitTime(time);
+						//update turn around time
+						readyQueue.peek().setTurnAroundTime(((readyQueue.peek().getExitTime())-(readyQueue.peek().getArrivalTime())));
+						//update wait time
+						readyQueue.peek().setWaitTime((readyQueue.peek().getTurnAroundTime())-(readyQueue.peek().getExecutionTime()));
+						//update response time
+						readyQueue.peek().setResponceTime((readyQueue.peek().getStartTime())-(readyQueue.peek().getArrivalTime()));
+					}
+					//take the head and add it to the tail of the readyQueue
+					readyQueue.add(readyQueue.poll());
+
+				}
+			}
+			//printout the the final result
+			for(int i = 0; i < completedList.size(); i++) {
+				ProcessScheduling.report().process(completedList.get(i));
+			}
+			//printout the gantt chart
+			ProcessScheduling.formatGanttChart(chart);
+
+		}	
+		
+	/**
+	 * This method solves the given processes with the 
+	 * Non-Preemptive Priority process scheduling algorithm.
+	 * @param processNumber This is a int array that holds the process numbers for the processes
+	 * @param arrivalTime This is a int array that holds the arrival times for the processes
+	 * @param burstTime This is a int array that hold the burst times for the processes
+	 * @param priority This is a int array that hold the priorities for the processes
+	 * @throws Exception throws exception if subroutine(s) encounter an exception
+	 */
+	
+	/*
+	 * Non-Preemptive Priority Algorithm pseudo code
+	 * while readyQueue is not empty or processes have yet to arrive
+	 * 		if readyQueue is empty
+	 * 			jump time to the next arrival time
+	 * 		end if
+	 * 		if there are no more processes that can arrive
+	 *			find the highest priority process
+	 *			update final variables
+	 *			terminate process
+	 *		end if
+	 * 		else 
+	 *			find the highest priority process
+	 *			update final variables
+	 *			terminate process
+	 *			update readyQueue
+	 * end else
+	 */
+	private static void npp(int[] processes, int[] arrivalTimes, int[] burstTimes, int[] priority) throws Exception {
+		//create time variable
+		int time = 0;
+		//This is a arraylist that holds all of the processes generated by the parameters
+		ArrayList<Process> processList = generateProcessesWithPriority(processes,arrivalTimes,burstTimes,priority);
+		//This is a arraylist that hold all of the completed processs
+		ArrayList<Process> completedList = new ArrayList<Process>();
+		/**
+		 * create a shallow copy of the process list for the completedList 
+		 * The advantage of creating a shallow copy of the processList is that 
+		 * we don't need to worry with reintroducing the completed processes back
+		 * into the completedList in the correct order. Due to the memory associations
+		 * between both list, the completedList is already in order with the 
+		 * updated attributes upon program termination. This means that we don't
+		 * need an extra sorting algorithm for our final result, thus this saves
+		 * a fair amount of computational resources (not to mention extra code).
+		 */
+		//the completed processes are only kept to print them
+		if(!ProcessScheduling.report().isSummaryOnly()) {
+			completedList.addAll(processList);
+		}
+		//create the arrival cursor over the processes that have yet to arrive
+		ArrivalCursor arrivals = new ArrivalCursor(processList);
+		//create the readyQueue ordered by the priority
+		ReadyHeap readyQueue = ReadyHeap.priority();
+		//update the readyQueue at the current time
+		updateReadyQueue(arrivals,readyQueue,time);
+		//create the gantt chart at the starting time
+		GanttChart chart = new GanttChart(time);
+		//while there are processes in the readyQueue or processes that have yet to arrive
+		while(!readyQueue.isEmpty() || !arrivals.isEmpty()) {
+			//if the cpu is idle then jump to the next arrival time
+			if(readyQueue.isEmpty()) {
+				time = skipIdleTime(arrivals,time,chart);
+				updateReadyQueue(arrivals,readyQueue,time);
+			}
+			//remove the highest priority process from the readyQueue
+			Process current = readyQueue.poll();
+			//update time to the time plus the current execution time left
+			time += current.getCurrentExecutionTimeLeft();
+			//update gantt chart
+			chart.add(time,current.getProcessNumber());
+			//update current execution time left to zero
+			current.setCurrentExecutionTimeLeft(0);
+			//update exit time
+			current.setExitTime(time);
+			//update turn around time
+			current.setTurnAroundTime(current.getExitTime() - current.getArrivalTime());
+			//update wait time
+			current.setWaitTime(current.getTurnAroundTime() - current.getExecutionTime());
+			//record the completed process in the statistics
+			ProcessScheduling.report().completed(current);
+			//update readyQueue at the given time
+			updateReadyQueue(arrivals,readyQueue,time);
+		}
+		//printout the final results
+		for(int i = 0; i < completedList.size(); i++) {
+			ProcessScheduling.report().process(completedList.get(i));
+		}
+		//printout the gantt chart
+		ProcessScheduling.formatGanttChart(chart);
+		
+	}
+
+	/**
+	 * This method solves the given processes with the 
+	 * Preemptive Priority process scheduling algorithm.
+	 * @param processNumber This is a int array that holds the process numbers for the processes
+	 * @param arrivalTime This is a int array that holds the arrival times for the processes
+	 * @param burstTime This is a int array that hold the burst times for the processes
+	 * @param priority This is a int array that hold the priorities for the processes
+	 * @throws Exception throws exception if subroutine(s) encounter an exception
+	 */
+	
+	/*
+	 * Preemptive Priority Algorithm pseudo code
+	 * while readyQueue is not empty or processes have yet to arrive
+	 * 		if readyQueue is empty
+	 * 			jump time to the next arrival time
+	 * 		end if
+	 * 		if there are no more processes that can arrive
+	 *			find the highest priority process
+	 *			update final variables
+	 *			terminate process
+	 *		end if
+	 * 		else 
+	 *			find the highest priority process
+				update the execution time minus the next arrival time
+	 * end else
+	 */
+	private static void pp(int[] processes, int[] arrivalTimes, int[] burstTimes, int[] priority) throws Exception {
+		//create time variable
+		int time = 0;
+		//This is a arraylist that holds all of the processes generated by the parameters
+		ArrayList<Process> processList = generateProcessesWithPriority(processes,arrivalTimes,burstTimes,priority);
+		//This is a arraylist that hold all of the completed processs
+		ArrayList<Process> completedList = new ArrayList<Process>();
+		/**
+		 * create a shallow copy of the process list for the completedList 
+		 * The advantage of creating a shallow copy of the processList is that 
+		 * we don't need to worry with reintroducing the completed processes back
+		 * into the completedList in the correct order. Due to the memory associations
+		 * between both list, the completedList is already in order with the 
+		 * updated attributes upon program termination. This means that we don't
+		 * need an extra sorting algorithm for our final result, thus this saves
+		 * a fair amount of computational resources (not to mention extra code).
+		 */
+		//the completed processes are only kept to print them
+		if(!ProcessScheduling.report().isSummaryOnly()) {
+			completedList.addAll(processList);
+		}
+		//create the arrival cursor over the processes that have yet to arrive
+		ArrivalCursor arrivals = new ArrivalCursor(processList);
+		//create the readyQueue ordered by the priority
+		ReadyHeap readyQueue = ReadyHeap.priority();
+		//update the readyQueue at the given time
+		updateReadyQueue(arrivals,readyQueue,time);
+		//create the gantt chart at the starting time
+		GanttChart chart = new GanttChart(time);
+
+		//while there are processes in the readyQueue or processes that have yet to arrive
+		while(!readyQueue.isEmpty() || !arrivals.isEmpty()) {
+			//if the cpu is idle then jump to the next arrival time
+			if(readyQueue.isEmpty()) {
+				time = skipIdleTime(arrivals,time,chart);
+				updateReadyQueue(arrivals,readyQueue,time);
+			}
+			//get the highest priority process
+			Process current = readyQueue.peek();
+			//if there are processes that can still arrive
+			if(arrivals.isEmpty()) {
+				//update time with the rest of the execution time
+				time += current.getCurrentExecutionTimeLeft();
+				//update gantt chart
+				chart.add(time,current.getProcessNumber());
+				//set current exection time left to zero
+				current.setCurrentExecutionTimeLeft(0);
+				//update exit time
+				current.setExitTime(time);
+				//update turn around time 
+				current.setTurnAroundTime(current.getExitTime() - current.getArrivalTime());
+				//update wait time
+				current.setWaitTime(current.getTurnAroundTime() - current.getExecutionTime());
+				//record the completed process in the statistics
+				ProcessScheduling.report().completed(current);
+				//remove process from readyQueue
+				readyQueue.poll();
+			}
+			else {
+				//this if the difference between the current time minus the next arrival time
+				int arrDiff = arrivals.peekArrivalTime() - time;
+				//if the current process has less time than the arrival time
+				if(current.getCurrentExecutionTimeLeft() < arrDiff) {
+					//update the time with the current execution time left
+					time += current.getCurrentExecutionTimeLeft();	
+					//update the gantt chart
+					chart.add(time,current.getProcessNumber());
+					//set the current execution time to zero
+					current.setCurrentExecutionTimeLeft(0);
+					//set the exit time to time
+					current.setExitTime(time);
+					//set the turn around time
+					current.setTurnAroundTime(current.getExitTime()-current.getArrivalTime());
+					//set the wait time 
+					current.setWaitTime(current.getTurnAroundTime()-current.getExecutionTime());
+					//record the completed process in the statistics
+					ProcessScheduling.report().completed(current);
+					//remove the readyQueue
+					readyQueue.poll();
+					//update the readyQueue at the given time
+					updateReadyQueue(arrivals,readyQueue,time);
+				}
+				else {
+					//set the current execution time left to the difference of the current execution time minus next arrival time
+					current.setCurrentExecutionTimeLeft(current.getCurrentExecutionTimeLeft()-arrDiff);
+					//update time
+					time += arrDiff;
+					//update gantt chart
+					chart.add(time,current.getProcessNumber());
+					//update the readyQueue at the given time
+					updateReadyQueue(arrivals,readyQueue,time);
+				}
+			}
+		}
+		//printout the completed process
+		for(int i = 0; i < completedList.size(); i++) {
+			ProcessScheduling.report().process(completedList.get(i));
+		}
+		//printout the gantt chart
+		ProcessScheduling.formatGanttChart(chart);
+		
+	}
+	
+	/**
+	 * This method solves the given processes with the 
+	 * Shortest Job First process scheduling algorithm.
+	 * @param processNumber This is a int array that holds the process numbers for the processes
+	 * @param arrivalTime This is a int array that holds the arrival times for the processes
+	 * @param burstTime This is a int array that hold the burst times for the processes
+	 * @throws Exception throws exception if subroutine(s) encounter an exception
+	 */
+	
+	/*
+	 * Shortest Job First Algorithm pseudo code
+	 * while readyQueue is not empty or processes have yet to arrive
+	 * 		if readyQueue is empty
+	 * 			jump time to the next arrival time
+	 * 		end if
+	 * 		if there are no more processes that can arrive
+	 *			find the shortest job in the readyQueue
+	 *			update final variables
+	 *			terminate processes 
+	 *		end if
+	 * 		else 
+	 *			find the shortest job in the readyQueue
+	 *			update final variables
+	 *			terminate processes 
+	 *			update readyQueue
+	 * end else
+	 */
+	private static void sjf(int[] processes, int[] arrivalTimes, int[] burstTimes) throws Exception {
+		int time = 0;
+		ArrayList<Process> processList = generateProcesses(processes,arrivalTimes,burstTimes);
+		ArrayList<Process> completedList = new ArrayList<Process>();
+		/**
+		 * create a shallow copy of the process list for the completedList 
+		 * The advantage of creating a shallow copy of the processList is that 
+		 * we don't need to worry with reintroducing the completed processes back
+		 * into the completedList in the correct order. Due to the memory associations
+		 * between both list, the completedList is already in order with the 
+		 * updated attributes upon program termination. This means that we don't
+		 * need an extra sorting algorithm for our final result, thus this saves
+		 * a fair amount of computational resources (not to mention extra code).
+		 */
+		//the completed processes are only kept to print them
+		if(!ProcessScheduling.report().isSummaryOnly()) {
+			completedList.addAll(processList);
+		}
+		//create the arrival cursor over the processes that have yet to arrive
+		ArrivalCursor arrivals = new ArrivalCursor(processList);
+		//create the readyQueue ordered by the execution time
+		ReadyHeap readyQueue = ReadyHeap.shortestJobFirst();
+		//update the readyQueue
+		updateReadyQueue(arrivals,readyQueue,time);
+		//create the gantt chart at the starting time
+		GanttChart chart = new GanttChart(time);
+		//while there are processes in the readyQueue or processes that have yet to arrive
+		while(!readyQueue.isEmpty() || !arrivals.isEmpty()) {
+			//if the cpu is idle then jump to the next arrival time
+			if(readyQueue.isEmpty()) {
+				time = skipIdleTime(arrivals,time,chart);
+				updateReadyQueue(arrivals,readyQueue,time);
+			}
+			//remove the shortest job from the readyQueue
+			Process current = readyQueue.poll();
+			//update the time to the current execution time left
+			time += current.getCurrentExecutionTimeLeft();
+			//update the gantt chart
+			chart.add(time,current.getProcessNumber());
+			//update the current execution time left to 0
+			current.setCurrentExecutionTimeLeft(0);
+			//update the exit time to time
+			current.setExitTime(time);
+			//update turn around time
+			current.setTurnAroundTime(current.getExitTime() - current.getArrivalTime());
+			//update the wait time
+			current.setWaitTime(current.getTurnAroundTime() - current.getExecutionTime());
+			//record the completed process in the statistics
+			ProcessScheduling.report().completed(current);
+			//update the readyQueue
+			updateReadyQueue(arrivals,readyQueue,time);
+		}
+		//printout the final output
+		for(int i = 0; i < completedList.size(); i++) {
+			ProcessScheduling.report().process(completedList.get(i));
+		}
+		//printout the gnatt chart
+		ProcessScheduling.formatGanttChart(chart);
+
+	}
+	
+	/**
+	 * This method takes in the integer arrays for the parameters
+	 * for processTime, arrivalTime,& burstTime and creates process objects
+	 * for the process scheduling algorithms
+	 * @param processNumber This is the int array for the processNumber
+	 * @param arrivalTime This is the int array for the arrivalTime
+	 * @param burstTime This is the int array for the burstTime
+	 * @return returns a process scheduling object ArrayList
+	 * @throws Exception Throws an exception if the inputs are missing elements 
+	 * (mismatched int[] lengths)
+	 */
+	private static ArrayList<Process> generateProcesses(int[] processNumber,
+		int[] arrivalTime, int[] burstTime) throws Exception {
+		//If the lengths are unequal for the inputs then throw an exception
+		if((processNumber.length != arrivalTime.length)
+			|| (arrivalTime.length != burstTime.length)) {
+			throw new Exception("[Error]: Incorrect inputs lengths found!");
+		}
+		//create an ArrayList to store all of the process objects
+		ArrayList<Process> allProcesses = new ArrayList<Process>();
+		//for all of the elements within the parameters, create process objects
+		for(int i = 0; i < processNumber.length; i++) {
+			allProcesses.add(new Process(processNumber[i],arrivalTime[i],burstTime[i]));
+		}
+		//return the object ArrayList of the process objects
+		return allProcesses;
+	}
+	
+	/**
+	 * This method takes in the integer arrays for the parameters
+	 * for processTime, arrivalTime,& burstTime and creates process objects
+	 * for the process scheduling algorithms
+	 * @param processNumber This is the int array for the processNumber
+	 * @param arrivalTime This is the int array for the arrivalTime
+	 * @param burstTime This is the int array for the burstTime
+	 * @param priority This is an int array for the priorities for each process
+	 * @return returns a process scheduling object ArrayList
+	 * @throws Exception Throws an exception if the inputs are missing elements 
+	 * (mismatched int[] lengths)
+	 */
+	private static ArrayList<Process> generateProcessesWithPriority(int[] processNumber,
+		int[] arrivalTime, int[] burstTime, int[] priority) {
+		//If the lengths are unequal for the inputs then throw an exception
+		if((processNumber.length != arrivalTime.length)
+			|| (arrivalTime.length != burstTime.length)
+			|| (arrivalTime.length != priority.length)) {
+			System.err.println("[Error]: Incorrect inputs lengths found!");
+		}
+		//create an ArrayList to store all of the process objects
+		ArrayList<Process> allProcesses = new ArrayList<Process>();
+		//for all of the elements within the parameters, create process objects
+		for(int i = 0; i < processNumber.length; i++) {
+			allProcesses.add(new Process(processNumber[i],arrivalTime[i],burstTime[i],priority[i]));
+		}
+		//return the object ArrayList of the process objects
+		return allProcesses;
+	}
+	
+	/**
+	 * This method update the readyQueue of the current process
+	 * scheduling algorithm. 
+	 * @param arrivals This is the cursor over the processes that have yet to arrive,
+	 * the arrived processes are pulled from it and loaded into the readyQueue
+	 * @param readyQueue This is the heap version of the readyQueue
+	 * @param time This is the current time, this decides which processes are loaded into the 
+	 * queue.
+	 * This version of the method is used for SJF, SRTN, NPP and PP.
+	 */
+	private static void updateReadyQueue(ArrivalCursor arrivals,ReadyHeap readyQueue,
+			int time) {
+		//while the next process has arrived by the current time add it to the readyQueue
+		while(arrivals.hasArrivedBy(time)) {
+			readyQueue.add(arrivals.next());
+		}
+	}
+	
+	/**
+	 * This method update the readyQueue of the current process
+	 * scheduling algorithm. 
+	 * @param arrivals This is the cursor over the processes that have yet to arrive,
+	 * the arrived processes are pulled from it and loaded into the readyQueue
+	 * @param readyQueue This is the queue (FIFO) version of the readyQueue
+	 * @param time This is the current time, this decides which processes are loaded into the 
+	 * queue.
+	 * This version of the method is only used for round robin.
+	 */
+	private static void updateReadyQueue(ArrivalCursor arrivals,Queue<Process> readyQueue,
+			int time) {
+		//while the next process has arrived by the current time add it to the readyQueue
+		while(arrivals.hasArrivedBy(time)) {
+			readyQueue.offer(arrivals.next());
+		}
+	}
+
+
+	/**
+	 * This method moves the time of an idle cpu forward to the 
+	 * next arrival time. The idle time is added to the gantt chart
+	 * as a single P* entry no matter how long the cpu is idle.
+	 * @param arrivals This is the cursor over the processes that have yet to arrive
+	 * @param time This is the current time
+	 * @param chart This is the gantt chart of the run
+	 * @return Returns the arrival time of the next process
+	 */
+	private static int skipIdleTime(ArrivalCursor arrivals, int time, GanttChart chart) {
+		//if the next process has already arrived then the cpu is not idle
+		if(arrivals.peekArrivalTime() <= time) {
+			return time;
+		}
+		//update the time to the next arrival time
+		time = arrivals.peekArrivalTime();
+		//update the gantt chart with one idle entry
+		chart.add(time,GanttChart.IDLE);
+		return time;
+	}
+}
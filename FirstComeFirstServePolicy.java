@@ -0,0 +1,106 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This is the first come first serve policy of the table engine.
+ * The processes run to completion in order of arrival.
+ */
+public class FirstComeFirstServePolicy implements SchedulingPolicy {
+
+	//this is the FIFO readyQueue
+	private final IntQueue readyQueue;
+
+	/**
+	 * This is the standard constructor for the policy
+	 * @param readyQueue This is the readyQueue (it is cleared by begin)
+	 */
+	public FirstComeFirstServePolicy(IntQueue readyQueue) {
+		this.readyQueue = readyQueue;
+	}
+
+	/**
+	 * This method empties the readyQueue before a run
+	 * @param table This is the process table that is scheduled
+	 */
+	public void begin(ProcessTable table) {
+		readyQueue.clear();
+	}
+
+	/**
+	 * This method adds an arrived process to the readyQueue
+	 * @param p This is the index of the process
+	 * @return Returns false if the process is never run
+	 */
+	public boolean onArrival(int p) {
+		readyQueue.offer(p);
+		return true;
+	}
+
+	/**
+	 * This method returns if a process is ready to run
+	 * @return Returns true if the readyQueue is not empty
+	 */
+	public boolean hasReady() {
+		return !readyQueue.isEmpty();
+	}
+
+	/**
+	 * This method returns the process that runs next
+	 * @return Returns the index of the process
+	 */
+	public int pickNext() {
+		return readyQueue.peek();
+	}
+
+	/**
+	 * This method returns how long a process may run before it is preempted
+	 * @param p This is the index of the process
+	 * @return Returns NO_TIME_SLICE, a process runs until it completes
+	 */
+	public long timeSlice(int p) {
+		return NO_TIME_SLICE;
+	}
+
+	/**
+	 * This method returns if an arrival preempts the running process
+	 * @return Returns true if the policy is preempted at every arrival
+	 */
+	public boolean preemptsOnArrival() {
+		return false;
+	}
+
+	/**
+	 * This method is called when the running process stopped before it completed
+	 * @param p This is the index of the process
+	 */
+	public void onPreempt(int p) {
+		//a process is never preempted
+	}
+
+	/**
+	 * This method removes the completed process from the readyQueue
+	 * @param p This is the index of the process
+	 */
+	public void onComplete(int p) {
+		readyQueue.poll();
+	}
+
+	/**
+	 * This method writes the readyQueue to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		readyQueue.writeState(out);
+	}
+
+	/**
+	 * This method replaces the readyQueue with the readyQueue of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		readyQueue.readState(in);
+	}
+}
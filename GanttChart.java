@@ -0,0 +1,241 @@
+import java.util.Arrays;
+
+/**
+ * This is the gantt chart of a process scheduling run.
+ *
+ * The chart is stored as a log of segments in primitive arrays
+ * (start time, end time and process number), so recording a segment
+ * does not create any objects. The chart is rendered in linear time
+ * into a single StringBuilder.
+ *
+ * A block of segments that repeats (the full rounds of round robin) is
+ * stored once with the number of times it repeats (run-length), it is
+ * only expanded when the chart is rendered.
+ */
+public class GanttChart {
+
+	//this is the process number of an idle segment (shown as P*)
+	public static final int IDLE = Integer.MIN_VALUE;
+
+	//these are the segment columns
+	private long[] start;
+	private long[] end;
+	private int[] process;
+	//this is the number of segments
+	private int size;
+	//these are the repeated blocks (the last segment of the block, its number of segments and repeats)
+	private int[] repeatLast = new int[4];
+	private int[] repeatSpan = new int[4];
+	private long[] repeatTimes = new long[4];
+	//this is the number of repeated blocks
+	private int repeats;
+	//this is the end time of the chart after the repeated blocks
+	private long last;
+	//this is the time the chart starts at
+	private final long origin;
+
+	/**
+	 * This is the standard constructor for the gantt chart
+	 * @param origin This is the time the chart starts at
+	 */
+	public GanttChart(long origin) {
+		this.origin = origin;
+		this.start = new long[16];
+		this.end = new long[16];
+		this.process = new int[16];
+	}
+
+	/**
+	 * This method adds a segment that starts where the last segment ended
+	 * @param endTime This is the time the segment ends at
+	 * @param processNumber This is the process number (IDLE for an idle cpu)
+	 */
+	public void add(long endTime, int processNumber) {
+		add(size == 0 ? origin : last, endTime, processNumber);
+	}
+
+	/**
+	 * This method adds a segment
+	 * @param startTime This is the time the segment starts at
+	 * @param endTime This is the time the segment ends at
+	 * @param processNumber This is the process number (IDLE for an idle cpu)
+	 */
+	public void add(long startTime, long endTime, int processNumber) {
+		//grow the columns if the log is full
+		if(size == start.length) {
+			start = Arrays.copyOf(start, size * 2);
+			end = Arrays.copyOf(end, size * 2);
+			process = Arrays.copyOf(process, size * 2);
+		}
+		start[size] = startTime;
+		end[size] = endTime;
+		process[size] = processNumber;
+		size++;
+		last = endTime;
+	}
+
+	/**
+	 * This method repeats the last segments right after themselves,
+	 * each repeat is shifted by the time the segments take
+	 * @param segments This is the number of segments that are repeated
+	 * (they must be added after the last repeated block)
+	 * @param times This is the number of times they are repeated
+	 */
+	public void repeat(int segments, long times) {
+		if(repeats == repeatLast.length) {
+			repeatLast = Arrays.copyOf(repeatLast, repeats * 2);
+			repeatSpan = Arrays.copyOf(repeatSpan, repeats * 2);
+			repeatTimes = Arrays.copyOf(repeatTimes, repeats * 2);
+		}
+		repeatLast[repeats] = size - 1;
+		repeatSpan[repeats] = segments;
+		repeatTimes[repeats] = times;
+		repeats++;
+		last += times * (end[size - 1] - start[size - segments]);
+	}
+
+	/**
+	 * This method adds the segments of a chart that starts where this chart ends
+	 * (the first segment of the other chart starts at the end of this chart)
+	 * @param other This is the chart of the run that follows
+	 */
+	public void append(GanttChart other) {
+		int offset = size;
+		for(int i = 0; i < other.size; i++) {
+			add(i == 0 && offset > 0 ? last : other.start[i], other.end[i], other.process[i]);
+		}
+		for(int b = 0; b < other.repeats; b++) {
+			if(repeats == repeatLast.length) {
+				repeatLast = Arrays.copyOf(repeatLast, repeats * 2);
+				repeatSpan = Arrays.copyOf(repeatSpan, repeats * 2);
+				repeatTimes = Arrays.copyOf(repeatTimes, repeats * 2);
+			}
+			repeatLast[repeats] = other.repeatLast[b] + offset;
+			repeatSpan[repeats] = other.repeatSpan[b];
+			repeatTimes[repeats] = other.repeatTimes[b];
+			repeats++;
+		}
+		if(other.size > 0) {
+			last = other.last;
+		}
+	}
+
+	/**
+	 * This method removes every segment, the columns are kept for the next run
+	 */
+	public void clear() {
+		size = 0;
+		repeats = 0;
+	}
+
+	/**
+	 * This method returns the number of stored segments
+	 * (a repeated block is only stored once)
+	 * @return Returns the size of the chart
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This method returns the time the chart starts at
+	 * @return Returns the origin of the chart
+	 */
+	public long getOrigin() {
+		return origin;
+	}
+
+	/**
+	 * This method returns the start time of a segment
+	 * @param index This is the index of the segment
+	 * @return Returns the start time
+	 */
+	public long getStart(int index) {
+		return start[index];
+	}
+
+	/**
+	 * This method returns the end time of a segment
+	 * @param index This is the index of the segment
+	 * @return Returns the end time
+	 */
+	public long getEnd(int index) {
+		return end[index];
+	}
+
+	/**
+	 * This method returns the process number of a segment
+	 * @param index This is the index of the segment
+	 * @return Returns the process number (IDLE for an idle cpu)
+	 */
+	public int getProcess(int index) {
+		return process[index];
+	}
+
+	/**
+	 * This method renders the chart as two lines, the order of the
+	 * processes and the order of the process times.
+	 * @param out This is where the chart is written
+	 */
+	public void render(StringBuilder out) {
+		//printout the process order
+		out.append('|');
+		int block = 0;
+		for(int i = 0; i < size; i++) {
+			appendProcess(out, i);
+			//expand a repeated block after its last segment
+			if(block < repeats && repeatLast[block] == i) {
+				for(long k = 0; k < repeatTimes[block]; k++) {
+					for(int j = i - repeatSpan[block] + 1; j <= i; j++) {
+						appendProcess(out, j);
+					}
+				}
+				block++;
+			}
+		}
+		out.append('\n');
+		//printout the time order
+		out.append(origin).append("\t\t");
+		block = 0;
+		for(int i = 0; i < size; i++) {
+			out.append(end[i]).append("\t\t");
+			if(block < repeats && repeatLast[block] == i) {
+				int first = i - repeatSpan[block] + 1;
+				long shift = end[i] - start[first];
+				for(long k = 1; k <= repeatTimes[block]; k++) {
+					for(int j = first; j <= i; j++) {
+						out.append(end[j] + k * shift).append("\t\t");
+					}
+				}
+				block++;
+			}
+		}
+		out.append('\n');
+	}
+
+	/**
+	 * This method renders the process of a segment
+	 * @param out This is where the chart is written
+	 * @param index This is the index of the segment
+	 */
+	private void appendProcess(StringBuilder out, int index) {
+		out.append('\t');
+		if(process[index] == IDLE) {
+			out.append("P*");
+		}
+		else {
+			out.append('P').append(process[index]);
+		}
+		out.append("\t|");
+	}
+
+	/**
+	 * This method returns the rendered chart
+	 */
+	public String toString() {
+		//roughly 16 characters per segment
+		StringBuilder out = new StringBuilder(32 + 16 * size);
+		render(out);
+		return out.toString();
+	}
+}
@@ -0,0 +1,142 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This is a policy of the table engine that runs the ready process with
+ * the smallest key first (IndexHeap), it covers four of the algorithms:
+ * # SJF: burst time, oldest first on ties, runs to completion
+ * # NPP: priority, newest first on ties, runs to completion
+ * # SRTN: remaining time, oldest first on ties, preempted at every arrival
+ * # PP: priority, newest first on ties, preempted at every arrival
+ */
+public class HeapPolicy implements SchedulingPolicy {
+
+	//these are the keys that order the readyQueue
+	public static final int KEY_BURST = 0;
+	public static final int KEY_REMAINING = 1;
+	public static final int KEY_PRIORITY = 2;
+
+	//this is the heap readyQueue
+	private final IndexHeap readyQueue;
+	//this is the key that orders the readyQueue
+	private final int key;
+	//this is true if an arrival preempts the running process
+	private final boolean preemptive;
+	//this is the process table that is scheduled
+	private ProcessTable table;
+
+	/**
+	 * This is the standard constructor for the policy
+	 * @param readyQueue This is the readyQueue (it is cleared by begin)
+	 * @param key This is the key that orders the readyQueue
+	 * @param preemptive This is true if an arrival preempts the running process
+	 */
+	public HeapPolicy(IndexHeap readyQueue, int key, boolean preemptive) {
+		this.readyQueue = readyQueue;
+		this.key = key;
+		this.preemptive = preemptive;
+	}
+
+	/**
+	 * This method empties the readyQueue before a run
+	 * @param table This is the process table that is scheduled
+	 */
+	public void begin(ProcessTable table) {
+		this.table = table;
+		readyQueue.clear();
+	}
+
+	/**
+	 * This method adds an arrived process to the readyQueue
+	 * @param p This is the index of the process
+	 * @return Returns false if the process is never run
+	 */
+	public boolean onArrival(int p) {
+		readyQueue.add(p, keyOf(p));
+		return true;
+	}
+
+	/**
+	 * This method returns if a process is ready to run
+	 * @return Returns true if the readyQueue is not empty
+	 */
+	public boolean hasReady() {
+		return !readyQueue.isEmpty();
+	}
+
+	/**
+	 * This method returns the process that runs next
+	 * @return Returns the index of the process
+	 */
+	public int pickNext() {
+		return readyQueue.peek();
+	}
+
+	/**
+	 * This method returns how long a process may run before it is preempted
+	 * @param p This is the index of the process
+	 * @return Returns NO_TIME_SLICE, only an arrival preempts a process
+	 */
+	public long timeSlice(int p) {
+		return NO_TIME_SLICE;
+	}
+
+	/**
+	 * This method returns if an arrival preempts the running process
+	 * @return Returns true if the policy is preempted at every arrival
+	 */
+	public boolean preemptsOnArrival() {
+		return preemptive;
+	}
+
+	/**
+	 * This method updates the key of the preempted process
+	 * @param p This is the index of the process
+	 */
+	public void onPreempt(int p) {
+		//the preempted process is still at the top of the heap
+		readyQueue.updateTopKey(keyOf(p));
+	}
+
+	/**
+	 * This method removes the completed process from the readyQueue
+	 * @param p This is the index of the process
+	 */
+	public void onComplete(int p) {
+		readyQueue.poll();
+	}
+
+	/**
+	 * This method writes the readyQueue to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		readyQueue.writeState(out);
+	}
+
+	/**
+	 * This method replaces the readyQueue with the readyQueue of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		readyQueue.readState(in);
+	}
+
+	/**
+	 * This method returns the key of a process for the readyQueue
+	 * @param p This is the index of the process
+	 * @return Returns the value of the key column of the process
+	 */
+	private int keyOf(int p) {
+		if(key == KEY_BURST) {
+			return table.burst(p);
+		}
+		if(key == KEY_REMAINING) {
+			return table.remaining[p];
+		}
+		return table.priority(p);
+	}
+}
@@ -0,0 +1,233 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * This is a log bucketed histogram of non-negative time values
+ * (in the style of an HDR histogram).
+ *
+ * Values below 256 have their own bucket, every larger power of two
+ * range is split into 128 buckets, so a recorded value is known to
+ * within 1/128 of itself. The buckets cover every non-negative long
+ * in at most 56 ranges, so recording a value takes constant time and the
+ * memory does not grow with the number of values. A range is only
+ * allocated once a value falls into it, so a histogram of small times
+ * stays small.
+ */
+public class Histogram {
+
+	//this is the number of bits of precision of every bucket
+	private static final int PRECISION_BITS = 8;
+	//this is the number of buckets in the first (linear) range
+	private static final int LINEAR_BUCKETS = 1 << PRECISION_BITS;
+	//this is the number of buckets in every power of two range after it
+	private static final int HALF = LINEAR_BUCKETS / 2;
+	//this is the number of ranges (the linear range and one per shift up to 62 - 7)
+	private static final int RANGES = 62 - (PRECISION_BITS - 1) + 1;
+
+	//this is the number of values in each bucket of each range (null until used)
+	private final long[][] counts = new long[RANGES][];
+	//these are the exact aggregates of the values
+	private long count;
+	private long sum;
+	private long min = Long.MAX_VALUE;
+	private long max = Long.MIN_VALUE;
+
+	/**
+	 * This method records a value
+	 * @param value This is the value (negative values are counted as 0)
+	 */
+	public void record(long value) {
+		record(value, 1);
+	}
+
+	/**
+	 * This method records a value a number of times at once, a value
+	 * that holds for a duration is recorded with the duration as its weight
+	 * (so the percentiles are time weighted)
+	 * @param value This is the value (negative values are counted as 0)
+	 * @param weight This is the number of times the value is recorded
+	 */
+	public void record(long value, long weight) {
+		if(value < 0) {
+			value = 0;
+		}
+		if(value < LINEAR_BUCKETS) {
+			range(0)[(int) value] += weight;
+		}
+		else {
+			//shift the value until it has PRECISION_BITS bits left
+			int shift = 63 - Long.numberOfLeadingZeros(value) - (PRECISION_BITS - 1);
+			range(shift)[(int) (value >>> shift) - HALF] += weight;
+		}
+		count += weight;
+		sum += value * weight;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * This method returns the buckets of a range and allocates them on first use
+	 * @param range This is the range (0 for the linear range, the shift otherwise)
+	 * @return Returns the counts of the range
+	 */
+	private long[] range(int range) {
+		long[] buckets = counts[range];
+		if(buckets == null) {
+			buckets = new long[range == 0 ? LINEAR_BUCKETS : HALF];
+			counts[range] = buckets;
+		}
+		return buckets;
+	}
+
+	/**
+	 * This method returns the largest value that falls into a bucket
+	 * @param range This is the range (0 for the linear range, the shift otherwise)
+	 * @param bucket This is the index of the bucket in the range
+	 * @return Returns the upper bound of the bucket
+	 */
+	private static long upperBound(int range, int bucket) {
+		if(range == 0) {
+			return bucket;
+		}
+		return ((long) (bucket + HALF + 1) << range) - 1;
+	}
+
+	/**
+	 * This method adds every value of another histogram
+	 * @param other This is the histogram that is added
+	 */
+	public void add(Histogram other) {
+		for(int r = 0; r < RANGES; r++) {
+			if(other.counts[r] != null) {
+				long[] buckets = range(r);
+				for(int i = 0; i < buckets.length; i++) {
+					buckets[i] += other.counts[r][i];
+				}
+			}
+		}
+		count += other.count;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * This method writes the aggregates and the buckets that are not empty to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeLong(count);
+		out.writeLong(sum);
+		out.writeLong(min);
+		out.writeLong(max);
+		for(int r = 0; r < RANGES; r++) {
+			if(counts[r] == null) {
+				continue;
+			}
+			for(int i = 0; i < counts[r].length; i++) {
+				if(counts[r][i] != 0) {
+					out.writeByte(r);
+					out.writeShort(i);
+					out.writeLong(counts[r][i]);
+				}
+			}
+		}
+		//this marks the end of the buckets
+		out.writeByte(-1);
+	}
+
+	/**
+	 * This method replaces the histogram with the histogram of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		reset();
+		count = in.readLong();
+		sum = in.readLong();
+		min = in.readLong();
+		max = in.readLong();
+		int r;
+		while((r = in.readByte()) >= 0) {
+			int bucket = in.readShort();
+			range(r)[bucket] = in.readLong();
+		}
+	}
+
+	/**
+	 * This method removes every value
+	 */
+	public void reset() {
+		for(long[] buckets : counts) {
+			if(buckets != null) {
+				Arrays.fill(buckets, 0);
+			}
+		}
+		count = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = Long.MIN_VALUE;
+	}
+
+	/**
+	 * This method returns the number of values
+	 * @return Returns the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * This method returns the mean of the values
+	 * @return Returns the mean (0 if there are no values)
+	 */
+	public double getMean() {
+		return count == 0 ? 0 : (double) sum / count;
+	}
+
+	/**
+	 * This method returns the smallest value
+	 * @return Returns the minimum (0 if there are no values)
+	 */
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	/**
+	 * This method returns the largest value
+	 * @return Returns the maximum (0 if there are no values)
+	 */
+	public long getMax() {
+		return count == 0 ? 0 : max;
+	}
+
+	/**
+	 * This method returns the value at a percentile
+	 * @param percentile This is the percentile (0 to 100)
+	 * @return Returns the upper bound of the bucket that holds the percentile
+	 * (never more than the maximum, 0 if there are no values)
+	 */
+	public long getPercentile(double percentile) {
+		if(count == 0) {
+			return 0;
+		}
+		//this is the rank of the value at the percentile (1 based)
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for(int r = 0; r < RANGES; r++) {
+			if(counts[r] == null) {
+				continue;
+			}
+			for(int i = 0; i < counts[r].length; i++) {
+				seen += counts[r][i];
+				if(seen >= rank) {
+					return Math.min(upperBound(r, i), max);
+				}
+			}
+		}
+		return max;
+	}
+}
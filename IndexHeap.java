@@ -0,0 +1,230 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * This is a binary min-heap of process table indexes that is used
+ * as the readyQueue of the table engine (TableScheduler).
+ *
+ * The indexes are ordered by a key that is given when the index
+ * is added (burst, remaining, priority or virtual runtime), ties are broken by the order that
+ * the indexes were added in the same way as ReadyHeap:
+ * # oldest first: the first process to arrive wins the tie (SJF, SRTN)
+ * # newest first: the last process to arrive wins the tie (NPP, PP)
+ * The keys are long values so the virtual runtime of CFS does not overflow.
+ *
+ * Adding and removing an index costs O(log n) without allocating objects.
+ */
+public class IndexHeap {
+
+	//if true then the latest added index wins a tie
+	private final boolean newestFirst;
+	//these are the heap arrays (table index, key and the order it was added)
+	private int[] heap;
+	private long[] key;
+	private long[] sequence;
+	//this is the number of indexes in the heap
+	private int size;
+	//this is the counter used to stamp the order of the added indexes
+	private long nextSequence;
+
+	/**
+	 * This is the standard constructor for the index heap
+	 * @param newestFirst This is true if ties are won by the newest index
+	 */
+	public IndexHeap(boolean newestFirst) {
+		this.newestFirst = newestFirst;
+		this.heap = new int[16];
+		this.key = new long[16];
+		this.sequence = new long[16];
+	}
+
+	/**
+	 * This method adds an index to the heap
+	 * @param index This is the process table index that is added
+	 * @param key This is the key that orders the index
+	 */
+	public void add(int index, long key) {
+		//grow the arrays if the heap is full
+		if(size == heap.length) {
+			heap = Arrays.copyOf(heap, size * 2);
+			this.key = Arrays.copyOf(this.key, size * 2);
+			sequence = Arrays.copyOf(sequence, size * 2);
+		}
+		//place the index at the bottom and move it up
+		heap[size] = index;
+		this.key[size] = key;
+		sequence[size] = nextSequence++;
+		siftUp(size);
+		size++;
+	}
+
+	/**
+	 * This method returns the next index without removing it.
+	 * @return Returns the next index or -1 if the heap is empty
+	 */
+	public int peek() {
+		return size == 0 ? -1 : heap[0];
+	}
+
+	/**
+	 * This method changes the key of the next index
+	 * (SRTN lowers the remaining time of the running process).
+	 * @param key This is the new key of the next index
+	 */
+	public void updateTopKey(long key) {
+		this.key[0] = key;
+		siftDown(0);
+	}
+
+	/**
+	 * This method removes and returns the next index
+	 * @return Returns the next index or -1 if the heap is empty
+	 */
+	public int poll() {
+		if(size == 0) {
+			return -1;
+		}
+		int result = heap[0];
+		size--;
+		//move the last index to the top and move it down
+		heap[0] = heap[size];
+		key[0] = key[size];
+		sequence[0] = sequence[size];
+		if(size > 0) {
+			siftDown(0);
+		}
+		return result;
+	}
+
+	/**
+	 * This method returns if the heap is empty
+	 * @return Returns true if there are no indexes in the heap
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * This method returns the number of indexes in the heap
+	 * @return Returns the size of the heap
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This method removes every index from the heap
+	 */
+	public void clear() {
+		size = 0;
+		nextSequence = 0;
+	}
+
+	/**
+	 * This method writes the heap to a checkpoint slot by slot,
+	 * so the order of equal keys is kept
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeInt(size);
+		out.writeLong(nextSequence);
+		for(int slot = 0; slot < size; slot++) {
+			out.writeInt(heap[slot]);
+			out.writeLong(key[slot]);
+			out.writeLong(sequence[slot]);
+		}
+	}
+
+	/**
+	 * This method replaces the heap with the heap of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		size = in.readInt();
+		nextSequence = in.readLong();
+		if(size > heap.length) {
+			heap = new int[size];
+			key = new long[size];
+			sequence = new long[size];
+		}
+		for(int slot = 0; slot < size; slot++) {
+			heap[slot] = in.readInt();
+			key[slot] = in.readLong();
+			sequence[slot] = in.readLong();
+		}
+	}
+
+	/**
+	 * This method returns if the entry at slot a comes before
+	 * the entry at slot b.
+	 * @param a This is the slot of the first entry
+	 * @param b This is the slot of the second entry
+	 * @return Returns true if a is ordered before b
+	 */
+	private boolean before(int a, int b) {
+		if(key[a] != key[b]) {
+			return key[a] < key[b];
+		}
+		//break the tie with the order the indexes were added
+		return newestFirst ? sequence[a] > sequence[b] : sequence[a] < sequence[b];
+	}
+
+	/**
+	 * This method moves the entry at the slot up the heap
+	 * @param slot This is the slot of the entry
+	 */
+	private void siftUp(int slot) {
+		while(slot > 0) {
+			int parent = (slot - 1) >>> 1;
+			if(!before(slot, parent)) {
+				break;
+			}
+			swap(slot, parent);
+			slot = parent;
+		}
+	}
+
+	/**
+	 * This method moves the entry at the slot down the heap
+	 * @param slot This is the slot of the entry
+	 */
+	private void siftDown(int slot) {
+		while(true) {
+			int left = 2 * slot + 1;
+			if(left >= size) {
+				break;
+			}
+			//pick the child that comes first
+			int child = left;
+			if(left + 1 < size && before(left + 1, left)) {
+				child = left + 1;
+			}
+			if(!before(child, slot)) {
+				break;
+			}
+			swap(slot, child);
+			slot = child;
+		}
+	}
+
+	/**
+	 * This method swaps two entries of the heap
+	 * @param a This is the slot of the first entry
+	 * @param b This is the slot of the second entry
+	 */
+	private void swap(int a, int b) {
+		int index = heap[a];
+		heap[a] = heap[b];
+		heap[b] = index;
+		long value = key[a];
+		key[a] = key[b];
+		key[b] = value;
+		long order = sequence[a];
+		sequence[a] = sequence[b];
+		sequence[b] = order;
+	}
+}
@@ -0,0 +1,242 @@
+import java.io.ByteArrayOutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * This class reads an input file without java.util.Scanner.
+ *
+ * The file is memory mapped with FileChannel.map and the comma separated
+ * integers are decoded straight from the bytes into int arrays, so no
+ * String is created for a number. Files larger than the mapping window
+ * are mapped one window at a time.
+ *
+ * Input file format:
+ * # line 1: the algorithm name
+ * # every other line: comma separated integers (spaces around the
+ * commas are allowed, blank lines are skipped)
+ *
+ * Malformed input throws an exception with the line and column number.
+ */
+public class InputParser {
+
+	//this is the largest part of the file that is mapped at once
+	private static final long WINDOW = 1L << 30;
+
+	//these are the parser states within a line of integers
+	private static final int EXPECT_VALUE = 0;
+	private static final int IN_VALUE = 1;
+	private static final int AFTER_VALUE = 2;
+
+	//this stores the algorithm string from the first line
+	private String algorithm = "";
+	//this arraylist stores the file contents for each line
+	private final ArrayList<int[]> fileContents = new ArrayList<int[]>();
+
+	//these are the bytes of the first line
+	private final ByteArrayOutputStream firstLine = new ByteArrayOutputStream();
+	private boolean inFirstLine = true;
+	//this is the position in the file (1 based line and column)
+	private int line = 1;
+	private int column = 0;
+	//this is the state of the integer line
+	private int state = EXPECT_VALUE;
+	private boolean lineStarted;
+	private long value;
+	private boolean negative;
+	private boolean hasDigit;
+	//these are the values of the current line
+	private int[] values = new int[64];
+	private int count;
+
+	/**
+	 * This method parses an input file
+	 * @param path This is the directory path of the file
+	 * @return Returns the parser that holds the algorithm and the file contents
+	 * @throws Exception throws an exception if the file can not be read or is malformed
+	 */
+	public static InputParser parse(String path) throws Exception {
+		InputParser parser = new InputParser();
+		try(FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			long size = channel.size();
+			//map and parse the file one window at a time
+			for(long position = 0; position < size; position += WINDOW) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+						position, Math.min(WINDOW, size - position));
+				parser.parseBytes(buffer);
+			}
+		}
+		parser.finish();
+		return parser;
+	}
+
+	/**
+	 * This method returns the algorithm from the first line
+	 * @return Returns the algorithm string
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * This method returns the integer lines of the file
+	 * @return Returns an ArrayList with an int array for each line
+	 */
+	public ArrayList<int[]> getFileContents() {
+		return fileContents;
+	}
+
+	/**
+	 * This method parses the bytes of one mapped window
+	 * @param buffer This is the mapped window of the file
+	 * @throws Exception throws an exception if the input is malformed
+	 */
+	private void parseBytes(MappedByteBuffer buffer) throws Exception {
+		int limit = buffer.limit();
+		for(int i = 0; i < limit; i++) {
+			byte b = buffer.get(i);
+			column++;
+			//the first line is the algorithm name
+			if(inFirstLine) {
+				if(b == '\n') {
+					inFirstLine = false;
+					algorithm = new String(firstLine.toByteArray(), StandardCharsets.UTF_8).trim();
+					newLine();
+				}
+				else {
+					firstLine.write(b);
+				}
+				continue;
+			}
+			if(b == '\n') {
+				endLine();
+				newLine();
+				continue;
+			}
+			if(b == '\r') {
+				continue;
+			}
+			switch(state) {
+				case EXPECT_VALUE:
+					if(b == ' ' || b == '\t') {
+						break;
+					}
+					lineStarted = true;
+					if(b == '-' && !negative && !hasDigit) {
+						negative = true;
+						break;
+					}
+					if(b >= '0' && b <= '9') {
+						state = IN_VALUE;
+						addDigit(b);
+						break;
+					}
+					throw error("expected a number");
+				case IN_VALUE:
+					if(b >= '0' && b <= '9') {
+						addDigit(b);
+					}
+					else if(b == ',') {
+						endValue();
+						state = EXPECT_VALUE;
+					}
+					else if(b == ' ' || b == '\t') {
+						endValue();
+						state = AFTER_VALUE;
+					}
+					else {
+						throw error("expected a digit or a comma");
+					}
+					break;
+				default:
+					if(b == ',') {
+						state = EXPECT_VALUE;
+					}
+					else if(b != ' ' && b != '\t') {
+						throw error("expected a comma");
+					}
+					break;
+			}
+		}
+	}
+
+	/**
+	 * This method adds a digit to the current value
+	 * @param b This is the digit byte
+	 * @throws Exception throws an exception if the value does not fit in an int
+	 */
+	private void addDigit(byte b) throws Exception {
+		value = value * 10 + (b - '0');
+		hasDigit = true;
+		if(value > (negative ? 2147483648L : Integer.MAX_VALUE)) {
+			throw error("number is out of the int range");
+		}
+	}
+
+	/**
+	 * This method adds the current value to the values of the line
+	 */
+	private void endValue() {
+		if(count == values.length) {
+			values = Arrays.copyOf(values, count * 2);
+		}
+		values[count++] = (int) (negative ? -value : value);
+		value = 0;
+		negative = false;
+		hasDigit = false;
+	}
+
+	/**
+	 * This method adds the values of the finished line to the file contents
+	 * @throws Exception throws an exception if the line ends without a number
+	 */
+	private void endLine() throws Exception {
+		if(state == IN_VALUE) {
+			endValue();
+		}
+		else if(state == EXPECT_VALUE && lineStarted) {
+			throw error("expected a number");
+		}
+		//blank lines are skipped
+		if(lineStarted) {
+			fileContents.add(Arrays.copyOf(values, count));
+		}
+	}
+
+	/**
+	 * This method resets the line state for the next line
+	 */
+	private void newLine() {
+		line++;
+		column = 0;
+		state = EXPECT_VALUE;
+		lineStarted = false;
+		count = 0;
+	}
+
+	/**
+	 * This method finishes the last line of the file
+	 * @throws Exception throws an exception if the last line is malformed
+	 */
+	private void finish() throws Exception {
+		if(inFirstLine) {
+			algorithm = new String(firstLine.toByteArray(), StandardCharsets.UTF_8).trim();
+			return;
+		}
+		column++;
+		endLine();
+	}
+
+	/**
+	 * This method creates the exception for malformed input
+	 * @param message This is the description of the error
+	 * @return Returns the exception with the line and column number
+	 */
+	private Exception error(String message) {
+		return new Exception("[Error]: Malformed input at line "+line+", column "+column+": "+message);
+	}
+}
@@ -0,0 +1,141 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This is a FIFO queue of int values stored in a ring buffer.
+ * It is used as the round robin readyQueue of the table engine,
+ * moving the head to the tail does not allocate any objects.
+ */
+public class IntQueue {
+
+	//this is the ring buffer (the length is always a power of two)
+	private int[] buffer;
+	//this is the slot of the head of the queue
+	private int head;
+	//this is the number of values in the queue
+	private int size;
+
+	/**
+	 * This is the standard constructor for the int queue
+	 */
+	public IntQueue() {
+		this.buffer = new int[16];
+	}
+
+	/**
+	 * This method adds a value to the tail of the queue
+	 * @param value This is the value that is added
+	 */
+	public void offer(int value) {
+		if(size == buffer.length) {
+			grow();
+		}
+		buffer[(head + size) & (buffer.length - 1)] = value;
+		size++;
+	}
+
+	/**
+	 * This method returns the head of the queue without removing it
+	 * @return Returns the head of the queue or -1 if the queue is empty
+	 */
+	public int peek() {
+		return size == 0 ? -1 : buffer[head];
+	}
+
+	/**
+	 * This method removes and returns the head of the queue
+	 * @return Returns the head of the queue or -1 if the queue is empty
+	 */
+	public int poll() {
+		if(size == 0) {
+			return -1;
+		}
+		int value = buffer[head];
+		head = (head + 1) & (buffer.length - 1);
+		size--;
+		return value;
+	}
+
+	/**
+	 * This method returns if the queue is empty
+	 * @return Returns true if there are no values in the queue
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * This method returns a value of the queue without removing it
+	 * @param index This is the position of the value from the head (0 for the head)
+	 * @return Returns the value
+	 */
+	public int get(int index) {
+		return buffer[(head + index) & (buffer.length - 1)];
+	}
+
+	/**
+	 * This method returns the number of values in the queue
+	 * @return Returns the size of the queue
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This method removes every value from the queue
+	 */
+	public void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * This method doubles the ring buffer and moves the values
+	 * so that the head is at slot zero.
+	 */
+	private void grow() {
+		int[] larger = new int[buffer.length * 2];
+		int firstPart = buffer.length - head;
+		System.arraycopy(buffer, head, larger, 0, firstPart);
+		System.arraycopy(buffer, 0, larger, firstPart, head);
+		buffer = larger;
+		head = 0;
+	}
+
+	/**
+	 * This method returns the values of the queue from head to tail
+	 * @return Returns a copy of the values in the queue
+	 */
+	public int[] toArray() {
+		int[] result = new int[size];
+		for(int i = 0; i < size; i++) {
+			result[i] = buffer[(head + i) & (buffer.length - 1)];
+		}
+		return result;
+	}
+
+	/**
+	 * This method writes the values of the queue from head to tail to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeInt(size);
+		for(int i = 0; i < size; i++) {
+			out.writeInt(buffer[(head + i) & (buffer.length - 1)]);
+		}
+	}
+
+	/**
+	 * This method replaces the values of the queue with the values of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		clear();
+		for(int n = in.readInt(); n > 0; n--) {
+			offer(in.readInt());
+		}
+	}
+}
@@ -0,0 +1,300 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * This is the multi-level feedback queue (MLFQ) policy of the table engine.
+ *
+ * Every level is a FIFO readyQueue with its own quantum, level 0 runs first.
+ * A process arrives at level 0. If it uses up the quantum of its level it is
+ * moved one level down (demotion), the processes of the lowest level run
+ * round robin. A process that is preempted by an arrival keeps what is left
+ * of its quantum. Every boost period all processes are moved back to level 0
+ * (priority boost), so long running processes can not starve.
+ *
+ * The levels that hold a process are the set bits of a bitmap, the highest
+ * level that is not empty is found with Long.numberOfTrailingZeros, so picking
+ * the next process costs O(1) however many processes are ready (like the
+ * Linux O(1) scheduler). There can be at most 64 levels.
+ *
+ * Instead of the time a process used of its quantum the policy keeps the
+ * remaining time at which its quantum is used up, so a process that is handed
+ * back to the policy (SmpScheduler) is demoted the same way.
+ */
+public class MultiLevelFeedbackQueuePolicy implements SchedulingPolicy {
+
+	//this is the number of levels for a single quantum (q, 2q, 4q)
+	public static final int DEFAULT_LEVELS = 3;
+	//this is the boost period in quanta of the lowest level if none is given
+	public static final int DEFAULT_BOOST_QUANTA = 8;
+
+	//these are the FIFO readyQueues of the levels
+	private final IntQueue[] levels;
+	//these are the quantum times of the levels
+	private final int[] quanta;
+	//this is the time between two priority boosts (0 for none)
+	private final long boostPeriod;
+	//this has bit l set if level l is not empty
+	private long nonEmpty;
+	//this is the time of the next priority boost
+	private long nextBoost;
+	//this is the demoted process that is queued after the arrivals (-1 for none)
+	private int preempted = -1;
+	//these are the level of every process and the remaining time at which its quantum is used up
+	private int[] level = new int[0];
+	private long[] quantumEnd = new long[0];
+	//this is the process table that is scheduled
+	private ProcessTable table;
+
+	/**
+	 * This is the standard constructor for the policy
+	 * @param quanta These are the quantum times of the levels, level 0 first
+	 * @param boostPeriod This is the time between two priority boosts (0 for none)
+	 * @throws Exception throws an exception if there are no or more than 64 levels
+	 * or a quantum is less than 1
+	 */
+	public MultiLevelFeedbackQueuePolicy(int[] quanta, long boostPeriod) throws Exception {
+		if(quanta.length < 1 || quanta.length > Long.SIZE) {
+			throw new Exception("[Error]: MLFQ needs 1 to 64 levels");
+		}
+		for(int quantum : quanta) {
+			if(quantum < 1) {
+				throw new Exception("[Error]: Every MLFQ quantum must be at least 1");
+			}
+		}
+		if(boostPeriod < 0) {
+			throw new Exception("[Error]: The MLFQ boost period can not be negative");
+		}
+		this.quanta = quanta.clone();
+		this.boostPeriod = boostPeriod;
+		this.levels = new IntQueue[quanta.length];
+		for(int l = 0; l < levels.length; l++) {
+			levels[l] = new IntQueue();
+		}
+	}
+
+	/**
+	 * This method creates the policy of a single quantum, the quantum
+	 * doubles on every level and the boost period is the default
+	 * @param quantum This is the quantum time of level 0
+	 * @return Returns the policy
+	 * @throws Exception throws an exception if the quantum is less than 1
+	 */
+	public static MultiLevelFeedbackQueuePolicy withQuantum(int quantum) throws Exception {
+		int[] quanta = new int[DEFAULT_LEVELS];
+		for(int l = 0; l < quanta.length; l++) {
+			quanta[l] = quantum << l;
+		}
+		return new MultiLevelFeedbackQueuePolicy(quanta, defaultBoostPeriod(quanta));
+	}
+
+	/**
+	 * This method returns the boost period if none is given
+	 * @param quanta These are the quantum times of the levels
+	 * @return Returns DEFAULT_BOOST_QUANTA quanta of the lowest level
+	 */
+	public static long defaultBoostPeriod(int[] quanta) {
+		return (long) DEFAULT_BOOST_QUANTA * quanta[quanta.length - 1];
+	}
+
+	/**
+	 * This method empties the levels before a run
+	 * @param table This is the process table that is scheduled
+	 */
+	public void begin(ProcessTable table) {
+		this.table = table;
+		for(IntQueue queue : levels) {
+			queue.clear();
+		}
+		nonEmpty = 0;
+		nextBoost = boostPeriod;
+		preempted = -1;
+	}
+
+	/**
+	 * This method adds an arrived process to level 0. A process that already
+	 * ran is handed back by another engine and is demoted if its quantum is used up.
+	 * @param p This is the index of the process
+	 * @return Returns true, every process is run
+	 */
+	public boolean onArrival(int p) {
+		if(p >= level.length) {
+			//the table of a streamed trace grows while it is scheduled
+			int capacity = Math.max(p + 1, table.remaining.length);
+			level = Arrays.copyOf(level, capacity);
+			quantumEnd = Arrays.copyOf(quantumEnd, capacity);
+		}
+		if(table.start[p] < 0) {
+			setLevel(p, 0);
+		}
+		else if(table.remaining[p] <= quantumEnd[p]) {
+			setLevel(p, Math.min(level[p] + 1, levels.length - 1));
+		}
+		enqueue(p);
+		return true;
+	}
+
+	/**
+	 * This method returns if a process is ready to run
+	 * @return Returns true if a level is not empty
+	 */
+	public boolean hasReady() {
+		return preempted >= 0 || nonEmpty != 0;
+	}
+
+	/**
+	 * This method boosts every process to level 0 once the boost period is over
+	 * @param time This is the current time
+	 */
+	public void onClock(long time) {
+		if(boostPeriod == 0 || time < nextBoost) {
+			return;
+		}
+		nextBoost = (time / boostPeriod + 1) * boostPeriod;
+		if(preempted >= 0) {
+			enqueue(preempted);
+			preempted = -1;
+		}
+		//level 0 keeps its order, the lower levels follow in order
+		IntQueue top = levels[0];
+		for(int n = top.size(); n > 0; n--) {
+			int p = top.poll();
+			setLevel(p, 0);
+			top.offer(p);
+		}
+		for(int l = 1; l < levels.length; l++) {
+			IntQueue queue = levels[l];
+			while(!queue.isEmpty()) {
+				int p = queue.poll();
+				setLevel(p, 0);
+				top.offer(p);
+			}
+		}
+		nonEmpty = top.isEmpty() ? 0 : 1;
+	}
+
+	/**
+	 * This method returns the process at the head of the highest level that is not empty
+	 * @return Returns the index of the process
+	 */
+	public int pickNext() {
+		//the arrivals of the last quantum are queued by now
+		if(preempted >= 0) {
+			enqueue(preempted);
+			preempted = -1;
+		}
+		return levels[Long.numberOfTrailingZeros(nonEmpty)].peek();
+	}
+
+	/**
+	 * This method returns how long a process may run before it is preempted
+	 * @param p This is the index of the process
+	 * @return Returns what is left of the quantum of its level
+	 */
+	public long timeSlice(int p) {
+		return table.remaining[p] - quantumEnd[p];
+	}
+
+	/**
+	 * This method returns if an arrival preempts the running process
+	 * @return Returns true, an arrival at level 0 runs before the lower levels
+	 */
+	public boolean preemptsOnArrival() {
+		return true;
+	}
+
+	/**
+	 * This method demotes the running process if its quantum is used up,
+	 * otherwise it stays at the head of its level
+	 * @param p This is the index of the process
+	 */
+	public void onPreempt(int p) {
+		if(table.remaining[p] > quantumEnd[p]) {
+			return;
+		}
+		remove(level[p]);
+		setLevel(p, Math.min(level[p] + 1, levels.length - 1));
+		preempted = p;
+	}
+
+	/**
+	 * This method removes the completed process from its level
+	 * @param p This is the index of the process
+	 */
+	public void onComplete(int p) {
+		remove(level[p]);
+	}
+
+	/**
+	 * This method writes the levels, the next boost and the level and quantum
+	 * of every process to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeLong(nonEmpty);
+		out.writeLong(nextBoost);
+		out.writeInt(preempted);
+		for(IntQueue queue : levels) {
+			queue.writeState(out);
+		}
+		out.writeInt(level.length);
+		for(int p = 0; p < level.length; p++) {
+			out.writeInt(level[p]);
+			out.writeLong(quantumEnd[p]);
+		}
+	}
+
+	/**
+	 * This method replaces the levels and the level and quantum of every process
+	 * with those of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		nonEmpty = in.readLong();
+		nextBoost = in.readLong();
+		preempted = in.readInt();
+		for(IntQueue queue : levels) {
+			queue.readState(in);
+		}
+		int capacity = in.readInt();
+		level = new int[capacity];
+		quantumEnd = new long[capacity];
+		for(int p = 0; p < capacity; p++) {
+			level[p] = in.readInt();
+			quantumEnd[p] = in.readLong();
+		}
+	}
+
+	/**
+	 * This method moves a process to a level with a new quantum
+	 * @param p This is the index of the process
+	 * @param l This is the level
+	 */
+	private void setLevel(int p, int l) {
+		level[p] = l;
+		quantumEnd[p] = table.remaining[p] - quanta[l];
+	}
+
+	/**
+	 * This method adds a process to the tail of its level
+	 * @param p This is the index of the process
+	 */
+	private void enqueue(int p) {
+		levels[level[p]].offer(p);
+		nonEmpty |= 1L << level[p];
+	}
+
+	/**
+	 * This method removes the head of a level
+	 * @param l This is the level
+	 */
+	private void remove(int l) {
+		levels[l].poll();
+		if(levels[l].isEmpty()) {
+			nonEmpty &= ~(1L << l);
+		}
+	}
+}
@@ -0,0 +1,257 @@
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+
+/**
+ * This is the online scheduler. Instead of solving a complete workload
+ * it runs a scheduling policy against a live feed of arrivals:
+ * # submit: a process arrives at a time (now or later)
+ * # advanceTo: the time moves forward and the processes run
+ * # currentDispatch: the process that runs at the current time
+ * # the completion listener is called for every process when it completes
+ * (a process that the policy drops when it arrives, round robin without
+ * execution time, is reported with zero results when it arrives)
+ *
+ * It runs the table engine (TableScheduler) one event at a time over a
+ * process table that reuses the rows of the completed processes, the
+ * submitted processes wait for their arrival time in a heap. So the cost
+ * of an event only depends on the processes that are live, not on how
+ * many processes were scheduled before (the gantt chart is not recorded).
+ *
+ * The run gives the same results as the streamed trace of the same
+ * processes (--stream), a process is picked at a time once the time has
+ * moved past it, so every process that arrives at that time can still be
+ * submitted before the pick.
+ *
+ * It can also be run on a feed from the standard input, one process per
+ * line (process number,arrival time,burst time[,priority]):
+ *
+ * java OnlineScheduler algorithm_name[,quantum] < feed.txt
+ */
+public class OnlineScheduler {
+
+	//this is the table of the live processes
+	private final ProcessTable table;
+	//these are the submitted processes that have yet to arrive
+	private final Submissions submissions;
+	//this is the engine that runs the policy
+	private final TableScheduler scheduler;
+	//this is the current time of the feed
+	private long now;
+
+	/**
+	 * This is the standard constructor for the online scheduler
+	 * @param policy This is the policy that picks the processes
+	 * @param listener This is called for every completed process (may be null)
+	 */
+	public OnlineScheduler(SchedulingPolicy policy, CompletionListener listener) {
+		this.table = new ProcessTable(1024);
+		this.submissions = new Submissions(table);
+		this.scheduler = new TableScheduler(table, submissions, listener);
+		scheduler.start(policy);
+	}
+
+	/**
+	 * This is the constructor for the online scheduler of an algorithm
+	 * @param algorithm This is the algorithm abbreviation (FCFS, SJF, SRTN, RR, NPP, PP, MLFQ or CFS)
+	 * @param quantum This is the quantum time (round robin and the first MLFQ level only)
+	 * @param listener This is called for every completed process (may be null)
+	 * @throws Exception throws an exception if the algorithm is unknown
+	 */
+	public OnlineScheduler(String algorithm, int quantum, CompletionListener listener) throws Exception {
+		this(SchedulingPolicy.create(algorithm, quantum), listener);
+	}
+
+	/**
+	 * This method submits a process that arrives now or later
+	 * @param processNumber This is the process number
+	 * @param arrivalTime This is the arrival time of the process
+	 * @param burstTime This is the burst time of the process
+	 * @param priority This is the priority of the process (-1 for none)
+	 * @throws Exception throws an exception if the process arrives before the current time
+	 * or was already picked at it
+	 */
+	public void submit(int processNumber, int arrivalTime, int burstTime, int priority) throws Exception {
+		if(arrivalTime < now || (arrivalTime == now && scheduler.getTime() == now && scheduler.getDispatched() >= 0)) {
+			throw new Exception("[Error]: P"+processNumber+" arrives at "+arrivalTime
+					+" but the scheduler already picked a process at "+now);
+		}
+		if(burstTime < 0) {
+			throw new Exception("[Error]: P"+processNumber+" has a negative burst time");
+		}
+		submissions.add(table.allocate(processNumber, arrivalTime, burstTime, priority));
+	}
+
+	/**
+	 * This method submits a process that arrives now or later
+	 * @param process This is the process (its number, burst time and priority are used)
+	 * @param arrivalTime This is the arrival time of the process
+	 * @throws Exception throws an exception if the process arrives before the current time
+	 */
+	public void submit(Process process, int arrivalTime) throws Exception {
+		submit(process.getProcessNumber(), arrivalTime, process.getExecutionTime(), process.getPriority());
+	}
+
+	/**
+	 * This method moves the time forward, the processes run until then
+	 * @param time This is the new current time
+	 * @throws Exception throws an exception if the time moves back or a completion listener fails
+	 */
+	public void advanceTo(long time) throws Exception {
+		if(time < now) {
+			throw new Exception("[Error]: The time can not move back from "+now+" to "+time);
+		}
+		now = time;
+		scheduler.advanceTo(time);
+	}
+
+	/**
+	 * This method returns the process that runs at the current time,
+	 * a process is picked if the cpu is free at this time
+	 * @return Returns the process number (-1 if the cpu is idle)
+	 * @throws Exception throws an exception if a completion listener fails
+	 */
+	public int currentDispatch() throws Exception {
+		int row = scheduler.dispatchAt(now);
+		return row < 0 ? -1 : table.processNumber(row);
+	}
+
+	/**
+	 * This method runs every submitted process to completion
+	 * and moves the current time to the finish time
+	 * @throws Exception throws an exception if a completion listener fails
+	 */
+	public void drain() throws Exception {
+		scheduler.advanceTo(Long.MAX_VALUE);
+		now = Math.max(now, scheduler.getTime());
+	}
+
+	/**
+	 * This method returns the current time
+	 * @return Returns the time the feed moved forward to
+	 */
+	public long getTime() {
+		return now;
+	}
+
+	/**
+	 * This method returns the running statistics of the completed processes
+	 * @return Returns the statistics
+	 */
+	public RunStatistics getStatistics() {
+		return scheduler.getStatistics();
+	}
+
+	/**
+	 * This method returns the number of context switches so far
+	 * @return Returns how often the cpu changed from one process to another
+	 */
+	public long getContextSwitches() {
+		return scheduler.getContextSwitches();
+	}
+
+	/**
+	 * This method returns the metrics of the simulated system so far
+	 * @return Returns the context switches, preemptions, utilization and ready queue length
+	 */
+	public SchedulerMetrics getMetrics() {
+		return scheduler.getMetrics();
+	}
+
+	/**
+	 * These are the submitted processes that have yet to arrive, they are
+	 * handed to the engine in order of arrival time (oldest submission first on ties)
+	 */
+	private static class Submissions implements ProcessSource {
+
+		//this is the table of the live processes
+		private final ProcessTable table;
+		//these are the rows of the submitted processes by arrival time
+		private final IndexHeap pending = new IndexHeap(false);
+
+		/**
+		 * This is the standard constructor for the submissions
+		 * @param table This is the table of the live processes
+		 */
+		Submissions(ProcessTable table) {
+			this.table = table;
+		}
+
+		/**
+		 * This method adds a submitted process
+		 * @param row This is the row of the process
+		 */
+		void add(int row) {
+			pending.add(row, table.arrival(row));
+		}
+
+		/**
+		 * This method returns if there are processes that have yet to arrive
+		 * @return Returns true if there is a next process
+		 */
+		public boolean hasNext() {
+			return !pending.isEmpty();
+		}
+
+		/**
+		 * This method returns the arrival time of the next process
+		 * @return Returns the arrival time of the next process
+		 */
+		public long peekArrivalTime() {
+			return table.arrival(pending.peek());
+		}
+
+		/**
+		 * This method returns the row of the next process and moves past it
+		 * @return Returns the index of the next process in the process table
+		 */
+		public int next() {
+			return pending.poll();
+		}
+	}
+
+	/**
+	 * This method runs an algorithm on the feed of the standard input
+	 * and printout every process when it completes
+	 * @param args This is the algorithm name and the quantum (algorithm_name[,quantum])
+	 * @throws Exception throws an exception if the feed is incorrect
+	 */
+	public static void main(String[] args) throws Exception {
+		if(args.length != 1) {
+			System.out.println("Error. Usage: java OnlineScheduler algorithm_name[,quantum] < feed.txt");
+			return;
+		}
+		String[] header = args[0].split(",");
+		String algorithm = header[0].trim();
+		int quantum = header.length > 1 ? Integer.parseInt(header[1].trim()) : 0;
+		boolean withResponse = algorithm.equalsIgnoreCase("RR") || algorithm.equalsIgnoreCase("MLFQ")
+				|| algorithm.equalsIgnoreCase("CFS");
+		ReportWriter report = ProcessScheduling.report();
+		OnlineScheduler online = new OnlineScheduler(algorithm, quantum,
+				(completedTable, row) -> report.process(completedTable, row, withResponse));
+		try {
+			BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+			String line;
+			while((line = in.readLine()) != null) {
+				line = line.trim();
+				if(line.isEmpty()) {
+					continue;
+				}
+				String[] values = line.split(",");
+				if(values.length < 3) {
+					throw new Exception("[Error]: expected process number,arrival time,burst time[,priority]: "+line);
+				}
+				int arrival = Integer.parseInt(values[1].trim());
+				//the feed moves the time forward to every arrival
+				online.advanceTo(Math.max(arrival, online.getTime()));
+				online.submit(Integer.parseInt(values[0].trim()), arrival, Integer.parseInt(values[2].trim()),
+						values.length > 3 ? Integer.parseInt(values[3].trim()) : -1);
+			}
+			online.drain();
+			report.println("\nFinish Time: "+online.getTime()+", context switches: "+online.getContextSwitches());
+			report.metrics(online.getMetrics());
+		}
+		finally {
+			report.close();
+		}
+	}
+}
@@ -218,35 +218,51 @@ public class Process {
 	 * of the process.
 	 */
 	public String toString() {
-		
-		if(this.responceTime == -1 && priority == -1) {
-			return "[P"+this.processNumber+" | Arrival Time: "+this.arrivalTime
-					+"\t| Burst: "+this.executionTime+"\t|"
-					+" Finish Time: "+this.exitTime+"\t|"
-					//+" Burst R.: "+this.currentExecutionTimeLeft+"\t|"
-					+" Turn Around Time: "+this.turnAroundTime+"\t|"
-					+" Wait Time: "+this.waitTime+"]";
-		}
-		else if(priority != -1) {
-			return "[P"+this.processNumber+" | Arrival Time: "+this.arrivalTime
-					+"\t| Burst: "+this.executionTime+"\t|"
-					+" Finish Time: "+this.exitTime+"\t|"
-					//+" Burst R.: "+this.currentExecutionTimeLeft+"\t|"
-					+" Turn Around Time: "+this.turnAroundTime+"\t|"
-					+" Wait Time: "+this.waitTime+"\t|"
-					+" Priority: "+this.priority+"]";
+		return appendTo(new StringBuilder(128)).toString();
+	}
+
+	/**
+	 * This method appends the displayed attributes of the process
+	 * to a StringBuilder without creating any intermediate strings.
+	 * @param out This is the StringBuilder that the process is appended to
+	 * @return Returns the StringBuilder
+	 */
+	public StringBuilder appendTo(StringBuilder out) {
+		return appendTo(out, processNumber, arrivalTime, executionTime, exitTime,
+				turnAroundTime, waitTime, priority, responceTime);
+	}
+
+	/**
+	 * This method appends the displayed attributes of a process
+	 * in the same format as toString (used by the table engine as well).
+	 * @param out This is the StringBuilder that the process is appended to
+	 * @param processNumber This is the process number
+	 * @param arrivalTime This is the arrival time
+	 * @param executionTime This is the burst time
+	 * @param exitTime This is the finish time
+	 * @param turnAroundTime This is the turn around time
+	 * @param waitTime This is the wait time
+	 * @param priority This is the priority (-1 if none)
+	 * @param responceTime This is the response time (-1 if none)
+	 * @return Returns the StringBuilder
+	 */
+	static StringBuilder appendTo(StringBuilder out, int processNumber, long arrivalTime,
+			long executionTime, long exitTime, long turnAroundTime, long waitTime,
+			int priority, long responceTime) {
+		out.append("[P").append(processNumber)
+			.append(" | Arrival Time: ").append(arrivalTime)
+			.append("\t| Burst: ").append(executionTime).append("\t|")
+			.append(" Finish Time: ").append(exitTime).append("\t|")
+			.append(" Turn Around Time: ").append(turnAroundTime).append("\t|")
+			.append(" Wait Time: ").append(waitTime);
+		//the priority is shown before the response time
+		if(priority != -1) {
+			out.append("\t| Priority: ").append(priority);
 		}
-		else {
-			return "[P"+this.processNumber+" | Arrival Time: "+this.arrivalTime
-					+"\t| Burst: "+this.executionTime+"\t|"
-					+" Finish Time: "+this.exitTime+"\t|"
-					//+" Burst R.: "+this.currentExecutionTimeLeft+"\t|"
-					+" Turn Around Time: "+this.turnAroundTime+"\t|"
-					+" Wait Time: "+this.waitTime+"\t|"
-					+ " Responce Time: "+this.responceTime+"]";
+		else if(responceTime != -1) {
+			out.append("\t| Responce Time: ").append(responceTime);
 		}
-		
-
+		return out.append(']');
 	}
 	
 }
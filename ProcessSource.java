@@ -0,0 +1,31 @@
+/**
+ * This is the source of the processes that have yet to arrive
+ * for the table engine (TableScheduler).
+ *
+ * The processes are handed out in order of arrival time. A source
+ * either walks a process table that is already filled (TableSource)
+ * or loads the processes into the table as they are read (TraceReader).
+ */
+public interface ProcessSource {
+
+	/**
+	 * This method returns if there are processes that have yet to arrive
+	 * @return Returns true if there is a next process
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	boolean hasNext() throws Exception;
+
+	/**
+	 * This method returns the arrival time of the next process
+	 * @return Returns the arrival time of the next process
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	long peekArrivalTime() throws Exception;
+
+	/**
+	 * This method returns the table row of the next process and moves past it
+	 * @return Returns the index of the next process in the process table
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	int next() throws Exception;
+}
@@ -0,0 +1,379 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * This is the process table of the table engine (TableScheduler).
+ *
+ * Instead of one Process object per process the table keeps every
+ * attribute in its own primitive column, the process at index i is
+ * made of the i-th entry of every column. The input columns of a filled
+ * table are the columns of its Workload, which is shared and never changed
+ * by a run, so they are only read through processNumber(i), arrival(i),
+ * burst(i) and priority(i). The run columns belong to the table and are reset
+ * before every run, so a table can be scheduled again without allocating anything.
+ *
+ * A table can also be created empty for a streamed trace (TraceReader),
+ * rows are then allocated as the processes arrive and released once they
+ * complete, so the table only grows to the number of live processes.
+ *
+ * Times that are computed by a run are stored as long values so
+ * long traces can not overflow them.
+ */
+public class ProcessTable {
+
+	//this is the workload of a filled table, its input columns are read from it (null for streamed tables)
+	private final Workload workload;
+
+	//this is the number of rows in the table
+	private int size;
+
+	//input columns of a streamed table, written when a row is allocated (null for filled tables)
+	private int[] processNumber;
+	private int[] arrival;
+	private int[] burst;	//also known as "execution time"
+	private int[] priority; //-1 for processes without a priority
+
+	//run columns
+	int[] remaining;
+	long[] start;	//-1 until the process first runs
+	long[] exit;
+	long[] wait;
+	long[] turnaround;
+	long[] response; //-1 until the process first runs
+
+	//these are the released rows that can be allocated again (streamed tables only)
+	private int[] freeRows;
+	private int freeCount;
+
+	/**
+	 * This is the standard constructor for the process table
+	 * @param processNumber This is a int array that stores the process numbers
+	 * @param arrivalTime This is a int array that stores the arrival times of the processes
+	 * @param burstTime This is a int array that stores the burst times of the processes
+	 * @param priority This is a int array that stores the priorities of the processes
+	 * (null for algorithms without priorities)
+	 * @throws Exception Throws an exception if the inputs are missing elements
+	 * (mismatched int[] lengths)
+	 */
+	public ProcessTable(int[] processNumber, int[] arrivalTime, int[] burstTime, int[] priority) throws Exception {
+		this(new Workload(processNumber, arrivalTime, burstTime, priority));
+	}
+
+	/**
+	 * This is the constructor for a table over a workload. The input
+	 * columns are shared with the workload, only the run columns are allocated.
+	 * @param workload This is the workload that is scheduled
+	 */
+	public ProcessTable(Workload workload) {
+		this.workload = workload;
+		this.size = workload.size();
+		this.remaining = new int[size];
+		this.start = new long[size];
+		this.exit = new long[size];
+		this.wait = new long[size];
+		this.turnaround = new long[size];
+		this.response = new long[size];
+		reset();
+	}
+
+	/**
+	 * This is the constructor for an empty table that is filled
+	 * by a streamed trace.
+	 * @param capacity This is the number of rows that are allocated up front
+	 */
+	public ProcessTable(int capacity) {
+		capacity = Math.max(capacity, 16);
+		this.size = 0;
+		this.processNumber = new int[capacity];
+		this.arrival = new int[capacity];
+		this.burst = new int[capacity];
+		this.priority = new int[capacity];
+		this.workload = null;
+		this.remaining = new int[capacity];
+		this.start = new long[capacity];
+		this.exit = new long[capacity];
+		this.wait = new long[capacity];
+		this.turnaround = new long[capacity];
+		this.response = new long[capacity];
+		this.freeRows = new int[capacity];
+	}
+
+	/**
+	 * This method allocates a row for an arrived process.
+	 * A released row is used again before the table grows.
+	 * @param number This is the process number
+	 * @param arrivalTime This is the arrival time of the process
+	 * @param burstTime This is the burst time of the process
+	 * @param processPriority This is the priority of the process (-1 for none)
+	 * @return Returns the index of the row
+	 * @throws Exception throws an exception if the table is a filled table
+	 */
+	public int allocate(int number, int arrivalTime, int burstTime, int processPriority) throws Exception {
+		if(workload != null) {
+			throw new Exception("[Error]: A filled table can not allocate rows");
+		}
+		int row;
+		if(freeCount > 0) {
+			row = freeRows[--freeCount];
+		}
+		else {
+			if(size == processNumber.length) {
+				grow();
+			}
+			row = size++;
+		}
+		processNumber[row] = number;
+		arrival[row] = arrivalTime;
+		burst[row] = burstTime;
+		priority[row] = processPriority;
+		remaining[row] = burstTime;
+		start[row] = -1;
+		exit[row] = 0;
+		wait[row] = 0;
+		turnaround[row] = 0;
+		response[row] = -1;
+		return row;
+	}
+
+	/**
+	 * This method releases the row of a completed process so that it
+	 * can be allocated again (streamed tables only).
+	 * @param row This is the index of the row
+	 */
+	public void release(int row) {
+		if(workload != null) {
+			return;
+		}
+		freeRows[freeCount++] = row;
+	}
+
+	/**
+	 * This method writes the rows and the released rows of a streamed table to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 * or the table is a filled table
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		if(workload != null) {
+			throw new IOException("[Error]: A filled table can not be saved to a checkpoint");
+		}
+		out.writeInt(size);
+		out.writeInt(freeCount);
+		for(int i = 0; i < freeCount; i++) {
+			out.writeInt(freeRows[i]);
+		}
+		for(int row = 0; row < size; row++) {
+			out.writeInt(processNumber[row]);
+			out.writeInt(arrival[row]);
+			out.writeInt(burst[row]);
+			out.writeInt(priority[row]);
+			out.writeInt(remaining[row]);
+			out.writeLong(start[row]);
+			out.writeLong(exit[row]);
+			out.writeLong(wait[row]);
+			out.writeLong(turnaround[row]);
+			out.writeLong(response[row]);
+		}
+	}
+
+	/**
+	 * This method replaces the rows of a streamed table with the rows of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 * or the table is a filled table
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		if(workload != null) {
+			throw new IOException("[Error]: A filled table can not be restored from a checkpoint");
+		}
+		size = in.readInt();
+		while(processNumber.length < size) {
+			grow();
+		}
+		freeCount = in.readInt();
+		for(int i = 0; i < freeCount; i++) {
+			freeRows[i] = in.readInt();
+		}
+		for(int row = 0; row < size; row++) {
+			processNumber[row] = in.readInt();
+			arrival[row] = in.readInt();
+			burst[row] = in.readInt();
+			priority[row] = in.readInt();
+			remaining[row] = in.readInt();
+			start[row] = in.readLong();
+			exit[row] = in.readLong();
+			wait[row] = in.readLong();
+			turnaround[row] = in.readLong();
+			response[row] = in.readLong();
+		}
+	}
+
+	/**
+	 * This method returns the number of rows that hold a live process
+	 * @return Returns the number of allocated rows
+	 */
+	public int liveRows() {
+		return size - freeCount;
+	}
+
+	/**
+	 * This method doubles the capacity of every column
+	 */
+	private void grow() {
+		int capacity = processNumber.length * 2;
+		processNumber = Arrays.copyOf(processNumber, capacity);
+		arrival = Arrays.copyOf(arrival, capacity);
+		burst = Arrays.copyOf(burst, capacity);
+		priority = Arrays.copyOf(priority, capacity);
+		remaining = Arrays.copyOf(remaining, capacity);
+		start = Arrays.copyOf(start, capacity);
+		exit = Arrays.copyOf(exit, capacity);
+		wait = Arrays.copyOf(wait, capacity);
+		turnaround = Arrays.copyOf(turnaround, capacity);
+		response = Arrays.copyOf(response, capacity);
+		freeRows = Arrays.copyOf(freeRows, capacity);
+	}
+
+	/**
+	 * This method resets the run columns so that the table
+	 * can be scheduled again.
+	 */
+	public void reset() {
+		if(workload != null) {
+			workload.copyBurst(remaining);
+		}
+		else {
+			System.arraycopy(burst, 0, remaining, 0, size);
+		}
+		Arrays.fill(start, -1);
+		Arrays.fill(exit, 0);
+		Arrays.fill(wait, 0);
+		Arrays.fill(turnaround, 0);
+		Arrays.fill(response, -1);
+	}
+
+	/**
+	 * This method returns the number of processes in the table
+	 * @return Returns the size of the table
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This method returns the process number of a process
+	 * @param index This is the index of the process
+	 * @return Returns the process number
+	 */
+	public int processNumber(int index) {
+		return workload != null ? workload.processNumber(index) : processNumber[index];
+	}
+
+	/**
+	 * This method returns the arrival time of a process
+	 * @param index This is the index of the process
+	 * @return Returns the arrival time
+	 */
+	public int arrival(int index) {
+		return workload != null ? workload.arrival(index) : arrival[index];
+	}
+
+	/**
+	 * This method returns the burst time of a process
+	 * @param index This is the index of the process
+	 * @return Returns the burst time
+	 */
+	public int burst(int index) {
+		return workload != null ? workload.burst(index) : burst[index];
+	}
+
+	/**
+	 * This method returns the priority of a process
+	 * @param index This is the index of the process
+	 * @return Returns the priority (-1 if the process has no priority)
+	 */
+	public int priority(int index) {
+		return workload != null ? workload.priority(index) : priority[index];
+	}
+
+	/**
+	 * This method returns a process of a filled table in order of arrival time
+	 * @param position This is the position in the arrival order
+	 * @return Returns the index of the process
+	 */
+	public int arrivalOrder(int position) {
+		return workload.arrivalOrder(position);
+	}
+
+	/**
+	 * This method returns the workload of a filled table
+	 * @return Returns the workload (null for streamed tables)
+	 */
+	public Workload getWorkload() {
+		return workload;
+	}
+
+	/**
+	 * This method creates a Process view of a process in the table
+	 * for the printing path.
+	 * @param index This is the index of the process
+	 * @param withResponse This is true if the response time is shown (round robin)
+	 * @return Returns a process object with the attributes of the process
+	 */
+	public Process toProcess(int index, boolean withResponse) {
+		Process process = new Process(processNumber(index), arrival(index), burst(index), priority(index));
+		process.setCurrentExecutionTimeLeft(remaining[index]);
+		process.setExitTime((int) exit[index]);
+		process.setWaitTime((int) wait[index]);
+		process.setTurnAroundTime((int) turnaround[index]);
+		if(withResponse) {
+			process.setStartTime((int) start[index]);
+			process.setResponceTime((int) response[index]);
+		}
+		return process;
+	}
+
+	/**
+	 * This method creates a filled table over the same workload, so
+	 * another thread can run it without sharing the run state.
+	 * Only the run columns are allocated, the workload is shared.
+	 * @return Returns the copy of the table
+	 * @throws Exception throws an exception if the table is a streamed table
+	 */
+	public ProcessTable copy() throws Exception {
+		if(workload == null) {
+			throw new Exception("[Error]: A streamed table can not be copied");
+		}
+		return new ProcessTable(workload);
+	}
+
+	/**
+	 * This method appends a process in the table to a StringBuilder
+	 * in the same format as Process.toString, without creating a Process view.
+	 * @param index This is the index of the process
+	 * @param withResponse This is true if the response time is shown (round robin)
+	 * @param out This is the StringBuilder that the process is appended to
+	 * @return Returns the StringBuilder
+	 */
+	public StringBuilder appendTo(int index, boolean withResponse, StringBuilder out) {
+		return Process.appendTo(out, processNumber(index), arrival(index), burst(index), exit[index],
+				turnaround[index], wait[index], priority(index), withResponse ? response[index] : -1);
+	}
+
+	/**
+	 * This method creates Process views of every process in the table
+	 * in input order for the printing path.
+	 * @param withResponse This is true if the response time is shown (round robin)
+	 * @return Returns an ArrayList of the process objects
+	 */
+	public ArrayList<Process> toProcesses(boolean withResponse) {
+		ArrayList<Process> processes = new ArrayList<Process>(size);
+		for(int i = 0; i < size; i++) {
+			processes.add(toProcess(i, withResponse));
+		}
+		return processes;
+	}
+}
@@ -0,0 +1,246 @@
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class runs round robin over one workload with many quanta
+ * and recommends the quantum that is best for an objective.
+ *
+ * The workload is parsed once and shared. The quanta are run in parallel on a
+ * ForkJoinPool, every worker has its own process table over the workload
+ * and runs the table engine without a gantt chart.
+ *
+ * Quanta: a comma separated list of values and ranges (first-last or
+ * first-last:step), for example 1,2,4,8 or 1-50 or 5-100:5.
+ *
+ * Objectives: statistic-attribute, where the statistic is mean, p50, p90,
+ * p99, p99.9 or max and the attribute is wait, turnaround or response
+ * (for example mean-turnaround or p99-response), or switches for the
+ * number of context switches. The smallest value is best, a tie goes to
+ * the quantum with fewer context switches.
+ */
+public class QuantumSweep {
+
+	//these are the columns of a result row
+	private static final int SWITCHES = 0;
+	private static final int WAIT_MEAN = 1;
+	private static final int WAIT_P99 = 2;
+	private static final int TURN_AROUND_MEAN = 3;
+	private static final int TURN_AROUND_P99 = 4;
+	private static final int RESPONCE_MEAN = 5;
+	private static final int RESPONCE_P99 = 6;
+	private static final int OBJECTIVE = 7;
+	private static final int COLUMNS = 8;
+
+	/**
+	 * This method runs the sweep of the runtime arguments and printout the results
+	 * @param options These are the parsed runtime arguments
+	 * @throws Exception throws an exception if the input or the quanta are incorrect
+	 */
+	public static void run(RunOptions options) throws Exception {
+		int[] quanta = parseQuanta(options.sweep);
+		String objective = options.objective;
+		//check the objective before anything is run
+		objectiveValue(new RunStatistics(), 0, objective);
+		Workload workload = load(options.inputFile);
+		double[][] results = sweep(workload, quanta, objective, options.threads);
+
+		//the best quantum has the smallest objective value, then the fewest switches
+		int best = 0;
+		for(int i = 1; i < quanta.length; i++) {
+			if(results[i][OBJECTIVE] < results[best][OBJECTIVE]
+					|| (results[i][OBJECTIVE] == results[best][OBJECTIVE]
+						&& results[i][SWITCHES] < results[best][SWITCHES])) {
+				best = i;
+			}
+		}
+		ReportWriter report = ProcessScheduling.report();
+		report.println("----------- RR quantum sweep -----------");
+		report.println(workload.size()+" processes, "+quanta.length+" quanta, objective "+objective);
+		report.println("Quantum\tSwitches\tWait mean\tWait p99\tT.A. mean\tT.A. p99\tResp. mean\tResp. p99");
+		StringBuilder line = new StringBuilder(128);
+		for(int i = 0; i < quanta.length; i++) {
+			line.setLength(0);
+			line.append(quanta[i]).append('\t').append((long) results[i][SWITCHES]);
+			for(int column = WAIT_MEAN; column <= RESPONCE_P99; column++) {
+				line.append("\t\t");
+				if(column % 2 == 1) {
+					line.append(String.format("%.2f", results[i][column]));
+				}
+				else {
+					line.append((long) results[i][column]);
+				}
+			}
+			report.println(line);
+		}
+		report.println("Recommended quantum: "+quanta[best]+" ("+objective+" = "
+				+String.format("%.2f", results[best][OBJECTIVE])+")");
+		report.println("----------------------------------------");
+	}
+
+	/**
+	 * This method runs round robin with every quantum in parallel
+	 * @param workload This is the workload (it is shared by the workers)
+	 * @param quanta These are the quanta
+	 * @param objective This is the objective of the sweep
+	 * @param threads This is the number of quanta that run at the same time
+	 * @return Returns a result row for every quantum
+	 * @throws Exception throws an exception if a run fails
+	 */
+	public static double[][] sweep(Workload workload, int[] quanta, String objective, int threads)
+			throws Exception {
+		double[][] results = new double[quanta.length][];
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(threads, quanta.length);
+		ForkJoinPool pool = new ForkJoinPool(workers);
+		try {
+			ArrayList<Future<Object>> running = new ArrayList<Future<Object>>();
+			for(int w = 0; w < workers; w++) {
+				running.add(pool.submit(() -> {
+					//every worker has its own run state, which is reset for every quantum
+					TableScheduler scheduler = new TableScheduler(new ProcessTable(workload));
+					scheduler.setRecordChart(false);
+					int i;
+					while((i = next.getAndIncrement()) < quanta.length) {
+						scheduler.rr(quanta[i]);
+						results[i] = resultRow(scheduler, objective);
+					}
+					return null;
+				}));
+			}
+			for(Future<Object> worker : running) {
+				worker.get();
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+		return results;
+	}
+
+	/**
+	 * This method creates the result row of a finished run
+	 * @param scheduler This is the table engine after the run
+	 * @param objective This is the objective of the sweep
+	 * @return Returns the result row
+	 * @throws Exception throws an exception if the objective is unknown
+	 */
+	private static double[] resultRow(TableScheduler scheduler, String objective) throws Exception {
+		RunStatistics statistics = scheduler.getStatistics();
+		double[] row = new double[COLUMNS];
+		row[SWITCHES] = scheduler.getContextSwitches();
+		row[WAIT_MEAN] = statistics.getWaitTime().getMean();
+		row[WAIT_P99] = statistics.getWaitTime().getPercentile(99);
+		row[TURN_AROUND_MEAN] = statistics.getTurnAroundTime().getMean();
+		row[TURN_AROUND_P99] = statistics.getTurnAroundTime().getPercentile(99);
+		row[RESPONCE_MEAN] = statistics.getResponceTime().getMean();
+		row[RESPONCE_P99] = statistics.getResponceTime().getPercentile(99);
+		row[OBJECTIVE] = objectiveValue(statistics, scheduler.getContextSwitches(), objective);
+		return row;
+	}
+
+	/**
+	 * This method returns the value of an objective
+	 * @param statistics These are the statistics of the run
+	 * @param switches This is the number of context switches of the run
+	 * @param objective This is the objective (statistic-attribute or switches)
+	 * @return Returns the value (smaller is better)
+	 * @throws Exception throws an exception if the objective is unknown
+	 */
+	static double objectiveValue(RunStatistics statistics, long switches, String objective) throws Exception {
+		if(objective.equals("switches")) {
+			return switches;
+		}
+		int split = objective.indexOf('-');
+		String attribute = split < 0 ? "" : objective.substring(split + 1);
+		Histogram histogram;
+		if(attribute.equals("wait")) {
+			histogram = statistics.getWaitTime();
+		}
+		else if(attribute.equals("turnaround")) {
+			histogram = statistics.getTurnAroundTime();
+		}
+		else if(attribute.equals("response")) {
+			histogram = statistics.getResponceTime();
+		}
+		else {
+			throw new Exception("[Error]: Unknown objective "+objective+" (use statistic-wait, "
+					+"statistic-turnaround, statistic-response or switches)");
+		}
+		String statistic = objective.substring(0, split);
+		if(statistic.equals("mean")) {
+			return histogram.getMean();
+		}
+		if(statistic.equals("max")) {
+			return histogram.getMax();
+		}
+		if(statistic.startsWith("p")) {
+			try {
+				return histogram.getPercentile(Double.parseDouble(statistic.substring(1)));
+			}
+			catch(NumberFormatException e) {
+				//reported below
+			}
+		}
+		throw new Exception("[Error]: Unknown statistic "+statistic+" (use mean, max or a percentile like p99)");
+	}
+
+	/**
+	 * This method parses the quanta of the sweep
+	 * @param spec This is the list of values and ranges
+	 * @return Returns the quanta in the given order
+	 * @throws Exception throws an exception if the list is malformed
+	 */
+	static int[] parseQuanta(String spec) throws Exception {
+		ArrayList<Integer> quanta = new ArrayList<Integer>();
+		try {
+			for(String item : spec.split(",")) {
+				item = item.trim();
+				int dash = item.indexOf('-');
+				if(dash < 0) {
+					quanta.add(Integer.parseInt(item));
+					continue;
+				}
+				int colon = item.indexOf(':');
+				int first = Integer.parseInt(item.substring(0, dash).trim());
+				int last = Integer.parseInt(item.substring(dash + 1, colon < 0 ? item.length() : colon).trim());
+				int step = colon < 0 ? 1 : Integer.parseInt(item.substring(colon + 1).trim());
+				if(step < 1 || last < first) {
+					throw new Exception("[Error]: Malformed quantum range "+item);
+				}
+				for(long q = first; q <= last; q += step) {
+					quanta.add((int) q);
+				}
+			}
+		}
+		catch(NumberFormatException e) {
+			throw new Exception("[Error]: Malformed quanta "+spec);
+		}
+		int[] values = new int[quanta.size()];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = quanta.get(i);
+			if(values[i] < 1) {
+				throw new Exception("[Error]: Every quantum must be at least 1");
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * This method reads the processes of an input file or binary workload
+	 * @param inputFile This is the directory path of the input
+	 * @return Returns the workload
+	 * @throws Exception throws an exception if the input is incorrect
+	 */
+	static Workload load(String inputFile) throws Exception {
+		if(BinaryWorkload.isBinary(inputFile)) {
+			return BinaryWorkload.open(inputFile).toWorkload();
+		}
+		ArrayList<int[]> fileContents = InputParser.parse(inputFile).getFileContents();
+		if(fileContents.size() < 3) {
+			throw new Exception("[Error]: "+inputFile+" needs process numbers, arrival times and burst times");
+		}
+		return new Workload(fileContents.get(0), fileContents.get(1), fileContents.get(2), null);
+	}
+}
@@ -0,0 +1,203 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This is a binary min-heap that is used as the readyQueue
+ * for the selection based process scheduling algorithms
+ * (SJF, SRTN, NPP and PP).
+ *
+ * The processes are ordered by the comparator of the algorithm,
+ * ties are broken by the order that the processes were added to
+ * the heap. This matches the tie breaking of the linear scans that
+ * were used on the ArrayList readyQueue:
+ * # oldest first: the first process to arrive wins the tie (SJF, SRTN)
+ * # newest first: the last process to arrive wins the tie (NPP, PP)
+ *
+ * Adding and removing a process costs O(log n), peeking costs O(1).
+ */
+public class ReadyHeap {
+
+	//this is the comparator that defines the algorithm ordering
+	private final Comparator<Process> comparator;
+	//if true then the latest added process wins a tie
+	private final boolean newestFirst;
+	//these are the heap arrays (process and the order it was added)
+	private Process[] heap;
+	private long[] sequence;
+	//this is the number of processes in the heap
+	private int size;
+	//this is the counter used to stamp the order of the added processes
+	private long nextSequence;
+
+	/**
+	 * This is the standard constructor for the ready heap
+	 * @param comparator This is the comparator that orders the processes
+	 * @param newestFirst This is true if ties are won by the newest process
+	 */
+	public ReadyHeap(Comparator<Process> comparator, boolean newestFirst) {
+		this.comparator = comparator;
+		this.newestFirst = newestFirst;
+		this.heap = new Process[16];
+		this.sequence = new long[16];
+	}
+
+	/**
+	 * This method creates the readyQueue for shortest job first,
+	 * it is ordered by the execution time with the oldest process first.
+	 * @return Returns the ready heap for SJF
+	 */
+	public static ReadyHeap shortestJobFirst() {
+		return new ReadyHeap(Comparator.comparingInt(Process::getExecutionTime), false);
+	}
+
+	/**
+	 * This method creates the readyQueue for shortest remaining time next,
+	 * it is ordered by the current execution time left with the oldest process first.
+	 * @return Returns the ready heap for SRTN
+	 */
+	public static ReadyHeap shortestRemainingTimeNext() {
+		return new ReadyHeap(Comparator.comparingInt(Process::getCurrentExecutionTimeLeft), false);
+	}
+
+	/**
+	 * This method creates the readyQueue for the priority algorithms,
+	 * it is ordered by the priority with the newest process first.
+	 * @return Returns the ready heap for NPP and PP
+	 */
+	public static ReadyHeap priority() {
+		return new ReadyHeap(Comparator.comparingInt(Process::getPriority), true);
+	}
+
+	/**
+	 * This method adds a process to the heap
+	 * @param process This is the process that is added
+	 */
+	public void add(Process process) {
+		//grow the arrays if the heap is full
+		if(size == heap.length) {
+			heap = Arrays.copyOf(heap, size * 2);
+			sequence = Arrays.copyOf(sequence, size * 2);
+		}
+		//place the process at the bottom and move it up
+		heap[size] = process;
+		sequence[size] = nextSequence++;
+		siftUp(size);
+		size++;
+	}
+
+	/**
+	 * This method returns the next process without removing it.
+	 *
+	 * The key of the returned process may be decreased (SRTN lowers
+	 * the current execution time left of the running process) without
+	 * reordering the heap since it stays at the top.
+	 * @return Returns the next process or null if the heap is empty
+	 */
+	public Process peek() {
+		return size == 0 ? null : heap[0];
+	}
+
+	/**
+	 * This method removes and returns the next process
+	 * @return Returns the next process or null if the heap is empty
+	 */
+	public Process poll() {
+		if(size == 0) {
+			return null;
+		}
+		Process result = heap[0];
+		size--;
+		//move the last process to the top and move it down
+		heap[0] = heap[size];
+		sequence[0] = sequence[size];
+		heap[size] = null;
+		if(size > 0) {
+			siftDown(0);
+		}
+		return result;
+	}
+
+	/**
+	 * This method returns if the heap is empty
+	 * @return Returns true if there are no processes in the heap
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * This method returns the number of processes in the heap
+	 * @return Returns the size of the heap
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This method returns if the entry at index a comes before
+	 * the entry at index b.
+	 * @param a This is the index of the first entry
+	 * @param b This is the index of the second entry
+	 * @return Returns true if a is ordered before b
+	 */
+	private boolean before(int a, int b) {
+		int result = comparator.compare(heap[a], heap[b]);
+		if(result != 0) {
+			return result < 0;
+		}
+		//break the tie with the order the processes were added
+		return newestFirst ? sequence[a] > sequence[b] : sequence[a] < sequence[b];
+	}
+
+	/**
+	 * This method moves the entry at the index up the heap
+	 * @param index This is the index of the entry
+	 */
+	private void siftUp(int index) {
+		while(index > 0) {
+			int parent = (index - 1) >>> 1;
+			if(!before(index, parent)) {
+				break;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	/**
+	 * This method moves the entry at the index down the heap
+	 * @param index This is the index of the entry
+	 */
+	private void siftDown(int index) {
+		while(true) {
+			int left = 2 * index + 1;
+			if(left >= size) {
+				break;
+			}
+			//pick the child that comes first
+			int child = left;
+			if(left + 1 < size && before(left + 1, left)) {
+				child = left + 1;
+			}
+			if(!before(child, index)) {
+				break;
+			}
+			swap(index, child);
+			index = child;
+		}
+	}
+
+	/**
+	 * This method swaps two entries of the heap
+	 * @param a This is the index of the first entry
+	 * @param b This is the index of the second entry
+	 */
+	private void swap(int a, int b) {
+		Process process = heap[a];
+		heap[a] = heap[b];
+		heap[b] = process;
+		long order = sequence[a];
+		sequence[a] = sequence[b];
+		sequence[b] = order;
+	}
+}
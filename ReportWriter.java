@@ -0,0 +1,273 @@
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class writes the report of a run (the data echo, the completed
+ * processes, the gantt chart and the summary).
+ *
+ * Everything goes through one large buffered writer that is flushed
+ * once when the report is closed, instead of one auto flushed console
+ * write per line. The completed processes can be sent to a file instead
+ * of the console, or left out in summary mode where only the aggregate
+ * results are printed.
+ *
+ * A checkpoint keeps the statistics and the length of the process file,
+ * so a resumed run cuts the file back to that length and appends to it.
+ */
+public class ReportWriter implements AutoCloseable {
+
+	//this is the size of the output buffers in chars
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final String NEWLINE = System.lineSeparator();
+
+	//this is where the report is written
+	private final Writer console;
+	//this is where the completed processes are written (the console or a file)
+	private final Writer processes;
+	//this is the file of the completed processes (null for the console)
+	private Path processFile;
+	//this is true if only the aggregate results are printed
+	private final boolean summaryOnly;
+	//this is the line that is reused for every completed process
+	private final StringBuilder line = new StringBuilder(160);
+
+	//these are the running statistics of the completed processes
+	private final RunStatistics statistics = new RunStatistics();
+
+	/**
+	 * This is the standard constructor for the report writer
+	 * @param console This is where the report is written
+	 * @param processes This is where the completed processes are written
+	 * @param summaryOnly This is true if only the aggregate results are printed
+	 */
+	public ReportWriter(Writer console, Writer processes, boolean summaryOnly) {
+		this.console = console;
+		this.processes = processes;
+		this.summaryOnly = summaryOnly;
+	}
+
+	/**
+	 * This method creates a report writer on the console
+	 * @return Returns a report writer that prints every section
+	 */
+	public static ReportWriter console() {
+		Writer console = openConsole();
+		return new ReportWriter(console, console, false);
+	}
+
+	/**
+	 * This method creates a report writer that discards its output.
+	 * The statistics are still recorded (used by the benchmarks).
+	 * @return Returns a report writer in summary mode on a null writer
+	 */
+	public static ReportWriter discard() {
+		Writer discard = Writer.nullWriter();
+		return new ReportWriter(discard, discard, true);
+	}
+
+	/**
+	 * This method creates the report writer for the runtime arguments
+	 * @param options These are the parsed runtime arguments
+	 * @return Returns the report writer
+	 * @throws IOException throws an exception if the process file can not be created
+	 */
+	public static ReportWriter open(RunOptions options) throws IOException {
+		Writer console = openConsole();
+		Writer processes = console;
+		Path processFile = null;
+		if(options.processFile != null) {
+			processFile = Paths.get(options.processFile);
+			//a resumed run appends to the file (it is cut back to the checkpoint first)
+			if(options.resume && Files.exists(Paths.get(options.checkpointFile))) {
+				processes = Files.newBufferedWriter(processFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			}
+			else {
+				processes = Files.newBufferedWriter(processFile);
+			}
+		}
+		ReportWriter report = new ReportWriter(console, processes, options.summaryOnly);
+		report.processFile = processFile;
+		return report;
+	}
+
+	/**
+	 * This method opens a buffered writer on the console that is not auto flushed
+	 * @return Returns the console writer
+	 */
+	private static Writer openConsole() {
+		return new BufferedWriter(new OutputStreamWriter(
+				new FileOutputStream(FileDescriptor.out)), BUFFER_SIZE);
+	}
+
+	/**
+	 * This method returns if only the aggregate results are printed
+	 * @return Returns true in summary mode
+	 */
+	public boolean isSummaryOnly() {
+		return summaryOnly;
+	}
+
+	/**
+	 * This method writes text to the report without ending the line
+	 * @param text This is the text
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void print(CharSequence text) throws IOException {
+		console.append(text);
+	}
+
+	/**
+	 * This method writes a line of the report
+	 * @param text This is the text of the line
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void println(CharSequence text) throws IOException {
+		console.append(text).write(NEWLINE);
+	}
+
+	/**
+	 * This method records a process in the statistics when it completes,
+	 * so the Process object methods do not have to keep it until the end
+	 * @param process This is the completed process
+	 */
+	public void completed(Process process) {
+		statistics.record(process.getExitTime(), process.getTurnAroundTime(),
+				process.getWaitTime(), process.getResponceTime());
+	}
+
+	/**
+	 * This method writes a completed process (its statistics are recorded
+	 * by completed when it completes)
+	 * @param process This is the completed process
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void process(Process process) throws IOException {
+		if(!summaryOnly) {
+			line.setLength(0);
+			processes.append(process.appendTo(line)).write(NEWLINE);
+		}
+	}
+
+	/**
+	 * This method writes a completed process of a process table
+	 * @param table This is the process table
+	 * @param row This is the index of the process
+	 * @param withResponse This is true if the response time is shown (round robin)
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void process(ProcessTable table, int row, boolean withResponse) throws IOException {
+		statistics.record(table.exit[row], table.turnaround[row], table.wait[row],
+				withResponse ? table.response[row] : -1);
+		if(!summaryOnly) {
+			line.setLength(0);
+			processes.append(table.appendTo(row, withResponse, line)).write(NEWLINE);
+		}
+	}
+
+	/**
+	 * This method returns the running statistics of the written processes
+	 * @return Returns the statistics
+	 */
+	public RunStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * This method flushes the report and writes the statistics and the length
+	 * of the process file to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the report or the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		processes.flush();
+		console.flush();
+		out.writeLong(processFile == null ? -1 : Files.size(processFile));
+		statistics.writeState(out);
+	}
+
+	/**
+	 * This method cuts the process file back to its length at a checkpoint
+	 * and replaces the statistics with those of the checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		long length = in.readLong();
+		if(processFile != null && length >= 0) {
+			try(FileChannel file = FileChannel.open(processFile, StandardOpenOption.WRITE)) {
+				file.truncate(length);
+			}
+		}
+		statistics.readState(in);
+	}
+
+	/**
+	 * This method writes the gantt chart
+	 * @param chart This is the gantt chart of the run
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void ganttChart(GanttChart chart) throws IOException {
+		ganttChart("Printing Out Gantt Chart: ", chart);
+	}
+
+	/**
+	 * This method writes a gantt chart under a title
+	 * @param title This is the title line of the chart
+	 * @param chart This is the gantt chart of the run
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void ganttChart(String title, GanttChart chart) throws IOException {
+		if(!summaryOnly) {
+			console.write(NEWLINE+title+NEWLINE);
+			//render both lines into one buffer
+			console.append(chart.toString());
+		}
+	}
+
+	/**
+	 * This method writes the metrics of the simulated system
+	 * (context switches, preemptions, utilization and ready queue length)
+	 * @param metrics These are the metrics of the run
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void metrics(SchedulerMetrics metrics) throws IOException {
+		println("----------- Scheduling Statistics -----------");
+		print(metrics.appendTo(new StringBuilder(512)));
+		println("---------------------------------------------");
+	}
+
+	/**
+	 * This method writes the aggregate results of the completed processes
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void summary() throws IOException {
+		println("----------- Summary -----------");
+		print(statistics.appendTo(new StringBuilder(512)));
+		println("-------------------------------");
+	}
+
+	/**
+	 * This method writes the summary in summary mode and flushes the report
+	 * @throws IOException throws an exception if the report can not be written
+	 */
+	public void close() throws IOException {
+		if(summaryOnly) {
+			summary();
+		}
+		if(processes != console) {
+			processes.close();
+		}
+		console.flush();
+	}
+}
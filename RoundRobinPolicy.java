@@ -0,0 +1,152 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This is the round robin policy of the table engine.
+ *
+ * The process at the head of the FIFO readyQueue runs for one quantum.
+ * If it has time left it goes to the tail of the readyQueue, behind the
+ * processes that arrived during its quantum.
+ */
+public class RoundRobinPolicy implements SchedulingPolicy {
+
+	//this is the FIFO readyQueue
+	private final IntQueue readyQueue;
+	//this is the quantum time
+	private final int quantum;
+	//this is the preempted process that goes to the tail after the arrivals (-1 for none)
+	private int preempted = -1;
+	//this is the process table that is scheduled
+	private ProcessTable table;
+
+	/**
+	 * This is the standard constructor for the policy
+	 * @param readyQueue This is the readyQueue (it is cleared by begin)
+	 * @param quantum This is the quantum time
+	 */
+	public RoundRobinPolicy(IntQueue readyQueue, int quantum) {
+		this.readyQueue = readyQueue;
+		this.quantum = quantum;
+	}
+
+	/**
+	 * This method empties the readyQueue before a run
+	 * @param table This is the process table that is scheduled
+	 */
+	public void begin(ProcessTable table) {
+		this.table = table;
+		readyQueue.clear();
+		preempted = -1;
+	}
+
+	/**
+	 * This method adds an arrived process to the readyQueue
+	 * @param p This is the index of the process
+	 * @return Returns false if the process is never run
+	 */
+	public boolean onArrival(int p) {
+		//a process without execution time is removed without running (as in the original round robin)
+		if(table.burst(p) == 0) {
+			return false;
+		}
+		readyQueue.offer(p);
+		return true;
+	}
+
+	/**
+	 * This method returns if a process is ready to run
+	 * @return Returns true if the readyQueue is not empty
+	 */
+	public boolean hasReady() {
+		return preempted >= 0 || !readyQueue.isEmpty();
+	}
+
+	/**
+	 * This method returns the process that runs next
+	 * @return Returns the index of the process
+	 */
+	public int pickNext() {
+		//the arrivals of the last quantum are queued by now
+		if(preempted >= 0) {
+			readyQueue.offer(preempted);
+			preempted = -1;
+		}
+		return readyQueue.peek();
+	}
+
+	/**
+	 * This method queues the preempted process and returns the readyQueue
+	 * in the order the processes run next (the engine fast forwards full rounds with it)
+	 * @return Returns the readyQueue
+	 */
+	public IntQueue readyQueue() {
+		if(preempted >= 0) {
+			readyQueue.offer(preempted);
+			preempted = -1;
+		}
+		return readyQueue;
+	}
+
+	/**
+	 * This method returns the quantum time
+	 * @return Returns the quantum time
+	 */
+	public int getQuantum() {
+		return quantum;
+	}
+
+	/**
+	 * This method returns how long a process may run before it is preempted
+	 * @param p This is the index of the process
+	 * @return Returns the quantum time
+	 */
+	public long timeSlice(int p) {
+		return quantum;
+	}
+
+	/**
+	 * This method returns if an arrival preempts the running process
+	 * @return Returns true if the policy is preempted at every arrival
+	 */
+	public boolean preemptsOnArrival() {
+		return false;
+	}
+
+	/**
+	 * This method takes the preempted process off the head of the readyQueue,
+	 * it goes to the tail once the arrivals of its quantum are queued
+	 * @param p This is the index of the process
+	 */
+	public void onPreempt(int p) {
+		preempted = readyQueue.poll();
+	}
+
+	/**
+	 * This method removes the completed process from the readyQueue
+	 * @param p This is the index of the process
+	 */
+	public void onComplete(int p) {
+		readyQueue.poll();
+	}
+
+	/**
+	 * This method writes the readyQueue and the preempted process to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeInt(preempted);
+		readyQueue.writeState(out);
+	}
+
+	/**
+	 * This method replaces the readyQueue and the preempted process with those of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		preempted = in.readInt();
+		readyQueue.readState(in);
+	}
+}
@@ -0,0 +1,192 @@
+import java.util.ArrayList;
+
+/**
+ * This class holds the runtime arguments of the program.
+ *
+ * The first argument that does not start with "--" is the input file
+ * (in batch mode every such argument is an input file or a directory),
+ * every other argument is an option:
+ * # --stream reads the input file as a row trace (TraceReader) and simulates
+ * it with memory bounded by the processes that are live at the same time
+ * # --checkpoint=file saves a streamed run to the file every so many completed
+ * processes (Checkpoint)
+ * # --checkpoint-every=n is the number of completed processes between two saves (default 1000000)
+ * # --resume carries on from the checkpoint file if there is one
+ * # --summary prints only the aggregate results instead of every process
+ * and the gantt chart
+ * # --processes=file writes the completed processes to a file instead of the console
+ * # --batch runs every input file in parallel (BatchRunner), a directory
+ * stands for every .txt file and binary workload in it
+ * # --output=directory is where a batch writes one output file per input file
+ * (default: next to each input file)
+ * # --threads=n is the number of workloads a batch simulates at the same time
+ * (default: the number of processors, also used by --sweep)
+ * # --sweep=quanta runs round robin with every quantum (QuantumSweep),
+ * for example --sweep=1-50 or --sweep=2,4,8,16
+ * # --objective=name is what the sweep minimizes, for example mean-turnaround
+ * (default), p99-response or switches
+ * # --compare runs every algorithm on the input file at the same time
+ * (AlgorithmComparison) and prints their results side by side
+ * # --quantum=q is the RR quantum of --compare if the input file has none (default 10)
+ * # --cpus=n schedules the input file on n cpus (SmpScheduler) with a readyQueue per cpu
+ * # --queue=global makes the cpus share one readyQueue instead (--queue=local is the default)
+ * # --no-steal turns off the work stealing of idle cpus, the cpus are then
+ * simulated in parallel (--threads)
+ * # --parallel splits the input file into busy periods and solves them at the
+ * same time with the table engine (BusyPeriodScheduler, --threads)
+ */
+public class RunOptions {
+
+	//this is the directory path of the input file
+	String inputFile;
+	//this is true if the input file is a row trace that is streamed
+	boolean stream;
+	//this is the file that a streamed run is saved to (null for none)
+	String checkpointFile;
+	//this is the number of completed processes between two saves
+	long checkpointEvery = 1000000;
+	//this is true if the run carries on from the checkpoint file
+	boolean resume;
+	//this is true if only the aggregate results are printed
+	boolean summaryOnly;
+	//this is the file that the completed processes are written to (null for the console)
+	String processFile;
+	//these are every input file and directory (batch mode)
+	ArrayList<String> inputFiles = new ArrayList<String>();
+	//this is true if the input files are run as a batch
+	boolean batch;
+	//this is the directory that a batch writes its output files to (null for next to each input file)
+	String outputDirectory;
+	//this is the number of workloads a batch simulates at the same time
+	int threads = Runtime.getRuntime().availableProcessors();
+	//these are the quanta of a round robin sweep (null for no sweep)
+	String sweep;
+	//this is what the sweep minimizes
+	String objective = "mean-turnaround";
+	//this is true if every algorithm is run and compared
+	boolean compare;
+	//this is the quantum of the comparison if the input file has none
+	int quantum = 10;
+	//this is the number of cpus of a multi-cpu run (0 for a single cpu run)
+	int cpus;
+	//this is true if the cpus share one readyQueue
+	boolean globalQueue;
+	//this is true if an idle cpu steals from the readyQueues of the other cpus
+	boolean stealing = true;
+	//this is true if the busy periods of the input file are solved in parallel
+	boolean parallel;
+
+	/**
+	 * This method parses the runtime arguments
+	 * @param args These are the runtime arguments
+	 * @return Returns the parsed options
+	 * @throws Exception throws an exception if an option is unknown or the input file is missing
+	 */
+	public static RunOptions parse(String[] args) throws Exception {
+		RunOptions options = new RunOptions();
+		for(String arg : args) {
+			if(!arg.startsWith("--")) {
+				//the first plain argument is the input file
+				if(options.inputFile == null) {
+					options.inputFile = arg;
+				}
+				options.inputFiles.add(arg);
+			}
+			else if(arg.equals("--stream")) {
+				options.stream = true;
+			}
+			else if(arg.startsWith("--checkpoint=") && arg.length() > "--checkpoint=".length()) {
+				options.checkpointFile = arg.substring("--checkpoint=".length());
+			}
+			else if(arg.startsWith("--checkpoint-every=")) {
+				options.checkpointEvery = Long.parseLong(arg.substring("--checkpoint-every=".length()));
+				if(options.checkpointEvery < 1) {
+					throw new Exception("[Error]: --checkpoint-every must be at least 1");
+				}
+			}
+			else if(arg.equals("--resume")) {
+				options.resume = true;
+			}
+			else if(arg.equals("--summary")) {
+				options.summaryOnly = true;
+			}
+			else if(arg.equals("--batch")) {
+				options.batch = true;
+			}
+			else if(arg.startsWith("--output=") && arg.length() > "--output=".length()) {
+				options.outputDirectory = arg.substring("--output=".length());
+			}
+			else if(arg.startsWith("--threads=")) {
+				options.threads = Integer.parseInt(arg.substring("--threads=".length()));
+				if(options.threads < 1) {
+					throw new Exception("[Error]: --threads must be at least 1");
+				}
+			}
+			else if(arg.startsWith("--sweep=")) {
+				options.sweep = arg.substring("--sweep=".length());
+			}
+			else if(arg.equals("--compare")) {
+				options.compare = true;
+			}
+			else if(arg.startsWith("--quantum=")) {
+				options.quantum = Integer.parseInt(arg.substring("--quantum=".length()));
+				if(options.quantum < 1) {
+					throw new Exception("[Error]: --quantum must be at least 1");
+				}
+			}
+			else if(arg.startsWith("--cpus=")) {
+				options.cpus = Integer.parseInt(arg.substring("--cpus=".length()));
+				if(options.cpus < 1) {
+					throw new Exception("[Error]: --cpus must be at least 1");
+				}
+			}
+			else if(arg.equals("--queue=global")) {
+				options.globalQueue = true;
+			}
+			else if(arg.equals("--queue=local")) {
+				options.globalQueue = false;
+			}
+			else if(arg.equals("--parallel")) {
+				options.parallel = true;
+			}
+			else if(arg.equals("--no-steal")) {
+				options.stealing = false;
+			}
+			else if(arg.startsWith("--objective=")) {
+				options.objective = arg.substring("--objective=".length());
+			}
+			else if(arg.startsWith("--processes=") && arg.length() > "--processes=".length()) {
+				options.processFile = arg.substring("--processes=".length());
+			}
+			else {
+				throw new Exception("[Error]: Unknown option "+arg);
+			}
+		}
+		if(options.inputFile == null) {
+			throw new Exception("[Error]: No input file given");
+		}
+		if(!options.batch && options.inputFiles.size() > 1) {
+			throw new Exception("[Error]: More than one input file given");
+		}
+		if(options.batch && (options.stream || options.processFile != null)) {
+			throw new Exception("[Error]: --stream and --processes can not be used with --batch");
+		}
+		if((options.sweep != null || options.compare) && (options.batch || options.stream)) {
+			throw new Exception("[Error]: --sweep and --compare can not be used with --batch or --stream");
+		}
+		if(options.cpus > 0 && (options.batch || options.stream || options.sweep != null || options.compare)) {
+			throw new Exception("[Error]: --cpus can not be used with --batch, --stream, --sweep or --compare");
+		}
+		if(options.parallel && (options.batch || options.stream || options.sweep != null || options.compare
+				|| options.cpus > 0)) {
+			throw new Exception("[Error]: --parallel can not be used with --batch, --stream, --sweep, --compare or --cpus");
+		}
+		if((options.checkpointFile != null || options.resume) && !options.stream) {
+			throw new Exception("[Error]: --checkpoint and --resume can only be used with --stream");
+		}
+		if(options.resume && options.checkpointFile == null) {
+			throw new Exception("[Error]: --resume needs --checkpoint=file");
+		}
+		return options;
+	}
+}
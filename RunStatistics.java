@@ -0,0 +1,166 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This class holds the running statistics of a process scheduling run.
+ *
+ * Every completed process updates the count, the finish time and a
+ * histogram each for the turn around, wait and response times, so the
+ * mean, minimum, maximum and percentiles (p50 to p99.9) are known
+ * without keeping the completed processes.
+ */
+public class RunStatistics {
+
+	//these are the percentiles that are printed
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+	//these are the histograms of the final attributes
+	private final Histogram turnAround = new Histogram();
+	private final Histogram wait = new Histogram();
+	private final Histogram responce = new Histogram();
+	//this is the latest finish time
+	private long finishTime;
+
+	/**
+	 * This method records a completed process
+	 * @param exit This is the finish time
+	 * @param turnAroundTime This is the turn around time
+	 * @param waitTime This is the wait time
+	 * @param responceTime This is the response time (-1 if it is not known)
+	 */
+	public void record(long exit, long turnAroundTime, long waitTime, long responceTime) {
+		finishTime = Math.max(finishTime, exit);
+		turnAround.record(turnAroundTime);
+		wait.record(waitTime);
+		if(responceTime != -1) {
+			responce.record(responceTime);
+		}
+	}
+
+	/**
+	 * This method adds the processes recorded by other statistics
+	 * @param other These are the statistics of another part of the run
+	 */
+	public void add(RunStatistics other) {
+		finishTime = Math.max(finishTime, other.finishTime);
+		turnAround.add(other.turnAround);
+		wait.add(other.wait);
+		responce.add(other.responce);
+	}
+
+	/**
+	 * This method removes every recorded process
+	 */
+	public void reset() {
+		turnAround.reset();
+		wait.reset();
+		responce.reset();
+		finishTime = 0;
+	}
+
+	/**
+	 * This method writes the finish time and the histograms to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeLong(finishTime);
+		turnAround.writeState(out);
+		wait.writeState(out);
+		responce.writeState(out);
+	}
+
+	/**
+	 * This method replaces the statistics with the statistics of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		finishTime = in.readLong();
+		turnAround.readState(in);
+		wait.readState(in);
+		responce.readState(in);
+	}
+
+	/**
+	 * This method returns the number of completed processes
+	 * @return Returns the count
+	 */
+	public long getCount() {
+		return turnAround.getCount();
+	}
+
+	/**
+	 * This method returns the latest finish time
+	 * @return Returns the finish time of the last completed process
+	 */
+	public long getFinishTime() {
+		return finishTime;
+	}
+
+	/**
+	 * This method returns the histogram of the turn around times
+	 * @return Returns the turn around histogram
+	 */
+	public Histogram getTurnAroundTime() {
+		return turnAround;
+	}
+
+	/**
+	 * This method returns the histogram of the wait times
+	 * @return Returns the wait histogram
+	 */
+	public Histogram getWaitTime() {
+		return wait;
+	}
+
+	/**
+	 * This method returns the histogram of the response times
+	 * @return Returns the response histogram (empty if no response time is known)
+	 */
+	public Histogram getResponceTime() {
+		return responce;
+	}
+
+	/**
+	 * This method appends the statistics as a table with one row per attribute
+	 * @param out This is the StringBuilder that the table is appended to
+	 * @return Returns the StringBuilder
+	 */
+	public StringBuilder appendTo(StringBuilder out) {
+		String newline = System.lineSeparator();
+		out.append("Processes: ").append(getCount()).append(newline);
+		out.append("Finish Time: ").append(finishTime).append(newline);
+		out.append("\t\t\tMean\tMin\tp50\tp90\tp99\tp99.9\tMax").append(newline);
+		appendRow(out, "Turn Around Time:", turnAround).append(newline);
+		appendRow(out, "Wait Time:\t", wait).append(newline);
+		if(responce.getCount() > 0) {
+			appendRow(out, "Responce Time:\t", responce).append(newline);
+		}
+		return out;
+	}
+
+	/**
+	 * This method appends one row of the table
+	 * @param out This is the StringBuilder that the row is appended to
+	 * @param name This is the name of the attribute
+	 * @param histogram This is the histogram of the attribute
+	 * @return Returns the StringBuilder
+	 */
+	static StringBuilder appendRow(StringBuilder out, String name, Histogram histogram) {
+		out.append(name).append('\t').append(String.format("%.2f", histogram.getMean()));
+		out.append('\t').append(histogram.getMin());
+		for(double percentile : PERCENTILES) {
+			out.append('\t').append(histogram.getPercentile(percentile));
+		}
+		return out.append('\t').append(histogram.getMax());
+	}
+
+	/**
+	 * This method returns the statistics as a table
+	 */
+	public String toString() {
+		return appendTo(new StringBuilder(512)).toString();
+	}
+}
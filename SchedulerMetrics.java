@@ -0,0 +1,253 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This class holds the metrics of the simulated system of a table engine
+ * run (TableScheduler), next to the per process times of RunStatistics:
+ * # context switches: the cpu changed from one process to another
+ * # preemptions: the cpu changed away from a process that did not complete
+ * # idle time and cpu utilization (busy time / finish time)
+ * # throughput: completed processes per time unit
+ * # ready queue length: the number of processes that wait for the cpu,
+ * weighted by how long it lasted (a histogram with the time as the weight)
+ *
+ * The engine reports every event to the metrics as it happens, so they are
+ * counted in the event loop without creating any objects. A process that
+ * arrives while a process runs to the end of its time slice is only handed
+ * to the policy after the run, its wait is still counted from its arrival time.
+ */
+public class SchedulerMetrics {
+
+	//these are the counted events
+	private long contextSwitches;
+	private long preemptions;
+	private long completions;
+	//this is the time the cpu was idle
+	private long idleTime;
+	//this is the length of the ready queue over time
+	private final Histogram queueLength = new Histogram();
+	//this is the time up to which the queue length is recorded
+	private long recorded;
+	//this is the number of processes that arrived and did not complete (with the running process)
+	private long live;
+	//this is the number of processes that completed at the current time (removed once the time is recorded)
+	private long completing;
+
+	/**
+	 * This method removes every recorded event
+	 * @param startTime This is the time the run starts at
+	 */
+	public void reset(long startTime) {
+		contextSwitches = 0;
+		preemptions = 0;
+		completions = 0;
+		idleTime = 0;
+		queueLength.reset();
+		recorded = startTime;
+		live = 0;
+		completing = 0;
+	}
+
+	/**
+	 * This method counts the cpu changing from one process to another
+	 * @param preempted This is true if the last process did not complete
+	 */
+	public void contextSwitch(boolean preempted) {
+		contextSwitches++;
+		if(preempted) {
+			preemptions++;
+		}
+	}
+
+	/**
+	 * This method counts many context switches at once (the full rounds of round robin)
+	 * @param switches This is the number of context switches
+	 * @param preempted This is how many of them preempted a process
+	 */
+	public void contextSwitches(long switches, long preempted) {
+		contextSwitches += switches;
+		preemptions += preempted;
+	}
+
+	/**
+	 * This method counts a process that arrived, the cpu was busy
+	 * since the last recorded time up to the arrival time
+	 * @param arrivalTime This is the arrival time of the process
+	 */
+	public void arrival(long arrivalTime) {
+		advance(arrivalTime);
+		live++;
+	}
+
+	/**
+	 * This method counts a process that completed at the current time
+	 */
+	public void completion() {
+		completions++;
+		completing++;
+	}
+
+	/**
+	 * This method records the queue length of the busy cpu up to a time
+	 * and removes the processes that completed by then
+	 * @param time This is the current time
+	 */
+	public void recordUntil(long time) {
+		advance(time);
+		live -= completing;
+		completing = 0;
+	}
+
+	/**
+	 * This method records an idle cpu until the next arrival
+	 * @param from This is the time the cpu became idle
+	 * @param to This is the time the next process arrives
+	 */
+	public void idle(long from, long to) {
+		recordUntil(from);
+		//no process waits while the cpu is idle
+		queueLength.record(live, to - from);
+		idleTime += to - from;
+		recorded = to;
+	}
+
+	/**
+	 * This method adds the metrics of a run that starts where this run ends
+	 * (the next busy periods of the same workload)
+	 * @param next These are the metrics of the run
+	 */
+	public void add(SchedulerMetrics next) {
+		contextSwitches += next.contextSwitches;
+		preemptions += next.preemptions;
+		completions += next.completions;
+		idleTime += next.idleTime;
+		queueLength.add(next.queueLength);
+		recorded = Math.max(recorded, next.recorded);
+	}
+
+	/**
+	 * This method records the busy cpu up to a time, the running process
+	 * is not counted in the ready queue
+	 * @param time This is the time
+	 */
+	private void advance(long time) {
+		if(time > recorded) {
+			queueLength.record(live - 1, time - recorded);
+			recorded = time;
+		}
+	}
+
+	/**
+	 * This method returns the number of context switches
+	 * @return Returns how often the cpu changed from one process to another
+	 */
+	public long getContextSwitches() {
+		return contextSwitches;
+	}
+
+	/**
+	 * This method returns the number of preemptions
+	 * @return Returns how often the cpu changed away from a process that did not complete
+	 */
+	public long getPreemptions() {
+		return preemptions;
+	}
+
+	/**
+	 * This method returns the time the cpu was idle
+	 * @return Returns the idle time up to the last event
+	 */
+	public long getIdleTime() {
+		return idleTime;
+	}
+
+	/**
+	 * This method returns the time the cpu was busy
+	 * @return Returns the busy time up to the last event
+	 */
+	public long getBusyTime() {
+		return queueLength.getCount() - idleTime;
+	}
+
+	/**
+	 * This method returns the share of the time the cpu was busy
+	 * @return Returns the busy time divided by the time of the run (0 for an empty run)
+	 */
+	public double getUtilization() {
+		long total = queueLength.getCount();
+		return total == 0 ? 0 : (double) getBusyTime() / total;
+	}
+
+	/**
+	 * This method returns the completed processes per time unit
+	 * @return Returns the completions divided by the time of the run (0 for an empty run)
+	 */
+	public double getThroughput() {
+		long total = queueLength.getCount();
+		return total == 0 ? 0 : (double) completions / total;
+	}
+
+	/**
+	 * This method returns the time weighted histogram of the ready queue length
+	 * @return Returns the histogram, its count is the recorded time
+	 */
+	public Histogram getQueueLength() {
+		return queueLength;
+	}
+
+	/**
+	 * This method writes the metrics to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeLong(contextSwitches);
+		out.writeLong(preemptions);
+		out.writeLong(completions);
+		out.writeLong(idleTime);
+		out.writeLong(recorded);
+		out.writeLong(live);
+		out.writeLong(completing);
+		queueLength.writeState(out);
+	}
+
+	/**
+	 * This method replaces the metrics with the metrics of a checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		contextSwitches = in.readLong();
+		preemptions = in.readLong();
+		completions = in.readLong();
+		idleTime = in.readLong();
+		recorded = in.readLong();
+		live = in.readLong();
+		completing = in.readLong();
+		queueLength.readState(in);
+	}
+
+	/**
+	 * This method appends the metrics as a report section
+	 * @param out This is the StringBuilder that the metrics are appended to
+	 * @return Returns the StringBuilder
+	 */
+	public StringBuilder appendTo(StringBuilder out) {
+		String newline = System.lineSeparator();
+		out.append("Context Switches: ").append(contextSwitches).append(newline);
+		out.append("Preemptions: ").append(preemptions).append(newline);
+		out.append("Idle Time: ").append(idleTime).append(newline);
+		out.append("CPU Utilization: ").append(String.format("%.2f%%", 100 * getUtilization())).append(newline);
+		out.append("Throughput: ").append(String.format("%.4f", getThroughput())).append(" processes per time unit").append(newline);
+		out.append("\t\t\tMean\tMin\tp50\tp90\tp99\tp99.9\tMax").append(newline);
+		return RunStatistics.appendRow(out, "Ready Queue:\t", queueLength).append(newline);
+	}
+
+	/**
+	 * This method returns the metrics as a report section
+	 */
+	public String toString() {
+		return appendTo(new StringBuilder(512)).toString();
+	}
+}
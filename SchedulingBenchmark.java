@@ -0,0 +1,197 @@
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+/**
+ * This program measures the cost of selecting the next process from the
+ * readyQueue of SJF, SRTN, NPP and PP. It compares the linear scan over an
+ * ArrayList of the original methods against the sjf, srtn, npp and pp
+ * methods of ProcessScheduling, whose readyQueue is a binary heap.
+ *
+ * The scan runs the same loops as the original methods: the readyQueue is
+ * scanned for the smallest key with <= (from the back for SJF and SRTN, so
+ * ties go to the oldest process, from the front for NPP and PP, so ties go
+ * to the newest process) and the picked process is removed by its index. The
+ * methods of ProcessScheduling run with a report that discards the printed
+ * results, so the measured time is the time of the scheduling.
+ *
+ * The processes arrive one time unit apart with bursts between 1 and 20,
+ * so the readyQueue keeps growing. The scan is quadratic on this workload,
+ * so it is only run up to a size limit (shown as - above it).
+ *
+ * The JMH module (benchmarks) measures full runs of every algorithm
+ * with warm up iterations and a separate JVM.
+ *
+ * Usage: java SchedulingBenchmark [sizes] [algorithms] [scanLimit]
+ * # sizes: comma separated process counts (default 100000,1000000,10000000)
+ * # algorithms: comma separated, SJF, SRTN, NPP and PP (default all four)
+ * # scanLimit: the largest size that is run with the linear scan (default 100000)
+ */
+public class SchedulingBenchmark {
+
+	//this is the number of processes of the warm up run
+	private static final int WARM_UP = 100000;
+
+	/**
+	 * This is the driver method for the benchmark.
+	 * @param args The sizes, the algorithms and the scan limit (all optional)
+	 * @throws Exception throws an exception if an algorithm is unknown
+	 */
+	public static void main(String[] args) throws Exception {
+		int[] sizes = {100000, 1000000, 10000000};
+		String[] algorithms = {"SJF", "SRTN", "NPP", "PP"};
+		int scanLimit = 100000;
+		if(args.length > 0) {
+			sizes = ProcessScheduling.getIntArrayFromString(args[0]);
+		}
+		if(args.length > 1) {
+			algorithms = args[1].split(",");
+		}
+		if(args.length > 2) {
+			scanLimit = Integer.parseInt(args[2]);
+		}
+		//the printed results are discarded, only the statistics are recorded
+		ProcessScheduling.setReport(ReportWriter.discard());
+		StringBuilder header = new StringBuilder("processes");
+		for(String algorithm : algorithms) {
+			String name = algorithm.trim().toUpperCase();
+			header.append("\t").append(name).append(" scan (ms)\t").append(name).append(" heap (ms)");
+		}
+		System.out.println(header);
+		for(int n : sizes) {
+			StringBuilder row = new StringBuilder().append(n);
+			for(String algorithm : algorithms) {
+				//warm up both versions before they are measured
+				int warmUp = Math.min(n, Math.min(scanLimit, WARM_UP) / 10);
+				scan(algorithm.trim(), warmUp, 7);
+				schedule(algorithm.trim(), Math.min(n, WARM_UP), 7);
+				row.append("\t\t").append(n <= scanLimit ? ""+scan(algorithm.trim(), n, 42) : "-");
+				row.append("\t\t").append(schedule(algorithm.trim(), n, 42));
+			}
+			System.out.println(row);
+		}
+		ProcessScheduling.setReport(null);
+	}
+
+	/**
+	 * This method generates the columns of the processes, they arrive one
+	 * time unit apart with bursts between 1 and 20 and priorities between 1 and 10
+	 * @param n This is the number of processes
+	 * @param seed This is the seed of the random burst times and priorities
+	 * @return Returns the process numbers, arrival times, burst times and priorities
+	 */
+	public static int[][] generate(int n, long seed) {
+		Random random = new Random(seed);
+		int[][] columns = new int[4][n];
+		for(int i = 0; i < n; i++) {
+			columns[0][i] = i + 1;
+			columns[1][i] = i;
+			columns[2][i] = 1 + random.nextInt(20);
+			columns[3][i] = 1 + random.nextInt(10);
+		}
+		return columns;
+	}
+
+	/**
+	 * This method generates the processes and runs an algorithm on them once
+	 * with the method of ProcessScheduling
+	 * @param algorithm This is the algorithm abbreviation (SJF, SRTN, NPP or PP)
+	 * @param n This is the number of processes
+	 * @param seed This is the seed of the random burst times and priorities
+	 * @return Returns the time of the run in milliseconds
+	 * @throws Exception throws an exception if the algorithm is unknown
+	 */
+	public static long schedule(String algorithm, int n, long seed) throws Exception {
+		int[][] columns = generate(n, seed);
+		long start = System.nanoTime();
+		if(algorithm.equalsIgnoreCase("SJF")) {
+			ProcessScheduling.sjf(columns[0], columns[1], columns[2]);
+		}
+		else if(algorithm.equalsIgnoreCase("SRTN")) {
+			ProcessScheduling.srtn(columns[0], columns[1], columns[2]);
+		}
+		else if(algorithm.equalsIgnoreCase("NPP")) {
+			ProcessScheduling.npp(columns[0], columns[1], columns[2], columns[3]);
+		}
+		else if(algorithm.equalsIgnoreCase("PP")) {
+			ProcessScheduling.pp(columns[0], columns[1], columns[2], columns[3]);
+		}
+		else {
+			throw new Exception("[Error]: "+algorithm+" does not have a heap readyQueue");
+		}
+		return (System.nanoTime() - start) / 1000000;
+	}
+
+	/**
+	 * This method generates the processes and runs an algorithm on them once
+	 * with the linear scan readyQueue of the original methods
+	 * @param algorithm This is the algorithm abbreviation (SJF, SRTN, NPP or PP)
+	 * @param n This is the number of processes
+	 * @param seed This is the seed of the random burst times and priorities
+	 * @return Returns the time of the run in milliseconds
+	 * @throws Exception throws an exception if the algorithm is unknown
+	 */
+	public static long scan(String algorithm, int n, long seed) throws Exception {
+		//the key of the process that runs next (the smallest key wins)
+		ToIntFunction<Process> key;
+		boolean preemptive = algorithm.equalsIgnoreCase("SRTN") || algorithm.equalsIgnoreCase("PP");
+		boolean byPriority = algorithm.equalsIgnoreCase("NPP") || algorithm.equalsIgnoreCase("PP");
+		if(algorithm.equalsIgnoreCase("SJF")) {
+			key = Process::getExecutionTime;
+		}
+		else if(algorithm.equalsIgnoreCase("SRTN")) {
+			key = Process::getCurrentExecutionTimeLeft;
+		}
+		else if(byPriority) {
+			key = Process::getPriority;
+		}
+		else {
+			throw new Exception("[Error]: "+algorithm+" does not have a heap readyQueue");
+		}
+		int[][] columns = generate(n, seed);
+		long start = System.nanoTime();
+		ArrayList<Process> processList = new ArrayList<Process>(n);
+		for(int i = 0; i < n; i++) {
+			processList.add(new Process(columns[0][i], columns[1][i], columns[2][i], columns[3][i]));
+		}
+		ArrayList<Process> readyQueue = new ArrayList<Process>();
+		int next = 0;
+		int time = 0;
+		while(next < n || !readyQueue.isEmpty()) {
+			//admit the arrived processes
+			while(next < n && processList.get(next).getArrivalTime() <= time) {
+				readyQueue.add(processList.get(next++));
+			}
+			//if the cpu is idle then jump to the next arrival time
+			if(readyQueue.isEmpty()) {
+				time = processList.get(next).getArrivalTime();
+				continue;
+			}
+			//find the smallest key (the same scans as the original methods)
+			int index = readyQueue.size()-1;
+			int smallest = key.applyAsInt(readyQueue.get(index));
+			for(int j = 0; j < readyQueue.size(); j++) {
+				int i = byPriority ? j : readyQueue.size()-1 - j;
+				if(key.applyAsInt(readyQueue.get(i)) <= smallest) {
+					index = i;
+					smallest = key.applyAsInt(readyQueue.get(i));
+				}
+			}
+			Process current = readyQueue.get(index);
+			//a preemptive algorithm only runs the process until the next arrival
+			int run = current.getCurrentExecutionTimeLeft();
+			if(preemptive && next < n) {
+				run = Math.min(run, processList.get(next).getArrivalTime() - time);
+			}
+			time += run;
+			current.setCurrentExecutionTimeLeft(current.getCurrentExecutionTimeLeft() - run);
+			if(current.getCurrentExecutionTimeLeft() == 0) {
+				current.setExitTime(time);
+				current.setTurnAroundTime(current.getExitTime() - current.getArrivalTime());
+				current.setWaitTime(current.getTurnAroundTime() - current.getExecutionTime());
+				readyQueue.remove(index);
+			}
+		}
+		return (System.nanoTime() - start) / 1000000;
+	}
+}
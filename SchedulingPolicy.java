@@ -0,0 +1,140 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This is the policy of the table engine (TableScheduler), it decides
+ * which ready process runs next and for how long.
+ *
+ * The engine owns the time, the arrivals, the gantt chart and the
+ * final attributes of the processes. It only moves the time from one
+ * event to the next (an arrival, a completion or the end of a time slice)
+ * and asks the policy at every event:
+ * # onArrival: a process arrived and is ready to run
+ * # pickNext: which ready process runs next
+ * # timeSlice: how long it may run before it is preempted by the policy
+ * # onPreempt: it stopped before it completed and stays ready
+ * # onComplete: it completed and is no longer ready
+ * # onClock: the time moved (for policies that change over time)
+ *
+ * The process that pickNext returns stays ready until onPreempt or onComplete
+ * is called for it, so a policy can peek at the head of its readyQueue.
+ *
+ * Between two events the engine can write the state of the policy to a
+ * checkpoint (writeState) and a new policy of the same algorithm carries
+ * on from it (readState), the rows of the process table are restored first.
+ */
+public interface SchedulingPolicy {
+
+	//this is the time slice of a process that runs until it completes
+	long NO_TIME_SLICE = Long.MAX_VALUE;
+
+	/**
+	 * This method empties the readyQueue before a run
+	 * @param table This is the process table that is scheduled
+	 */
+	void begin(ProcessTable table);
+
+	/**
+	 * This method adds an arrived process to the readyQueue
+	 * @param p This is the index of the process
+	 * @return Returns false if the process is never run (its row is released)
+	 */
+	boolean onArrival(int p);
+
+	/**
+	 * This method returns if a process is ready to run
+	 * @return Returns true if the readyQueue is not empty
+	 */
+	boolean hasReady();
+
+	/**
+	 * This method returns the process that runs next
+	 * @return Returns the index of the process
+	 */
+	int pickNext();
+
+	/**
+	 * This method returns how long a process may run before it is preempted
+	 * @param p This is the index of the process
+	 * @return Returns the time slice (NO_TIME_SLICE to run until it completes)
+	 */
+	long timeSlice(int p);
+
+	/**
+	 * This method returns if an arrival preempts the running process
+	 * @return Returns true if the policy is preempted at every arrival
+	 */
+	boolean preemptsOnArrival();
+
+	/**
+	 * This method is called when the running process stopped before it
+	 * completed, its remaining time is already updated
+	 * @param p This is the index of the process
+	 */
+	void onPreempt(int p);
+
+	/**
+	 * This method removes the completed process from the readyQueue
+	 * @param p This is the index of the process
+	 */
+	void onComplete(int p);
+
+	/**
+	 * This method is called with the current time before the next process is picked
+	 * @param time This is the current time
+	 */
+	default void onClock(long time) {
+		//most policies do not depend on the time
+	}
+
+	/**
+	 * This method writes the readyQueue and every other state of the run to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	void writeState(DataOutputStream out) throws IOException;
+
+	/**
+	 * This method replaces the state of the run with the state of a checkpoint
+	 * (begin is called first)
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	void readState(DataInputStream in) throws IOException;
+
+	/**
+	 * This method creates the policy of an algorithm with its own readyQueue
+	 * @param algorithm This is the algorithm abbreviation (FCFS, SJF, SRTN, RR, NPP, PP, MLFQ or CFS)
+	 * @param quantum This is the quantum time (round robin and the first MLFQ level only)
+	 * @return Returns the policy
+	 * @throws Exception throws an exception if the algorithm is unknown
+	 */
+	static SchedulingPolicy create(String algorithm, int quantum) throws Exception {
+		if(algorithm.equalsIgnoreCase("FCFS")) {
+			return new FirstComeFirstServePolicy(new IntQueue());
+		}
+		if(algorithm.equalsIgnoreCase("SJF")) {
+			return new HeapPolicy(new IndexHeap(false), HeapPolicy.KEY_BURST, false);
+		}
+		if(algorithm.equalsIgnoreCase("SRTN")) {
+			return new HeapPolicy(new IndexHeap(false), HeapPolicy.KEY_REMAINING, true);
+		}
+		if(algorithm.equalsIgnoreCase("RR")) {
+			return new RoundRobinPolicy(new IntQueue(), quantum);
+		}
+		if(algorithm.equalsIgnoreCase("NPP")) {
+			return new HeapPolicy(new IndexHeap(true), HeapPolicy.KEY_PRIORITY, false);
+		}
+		if(algorithm.equalsIgnoreCase("PP")) {
+			return new HeapPolicy(new IndexHeap(true), HeapPolicy.KEY_PRIORITY, true);
+		}
+		if(algorithm.equalsIgnoreCase("MLFQ")) {
+			return MultiLevelFeedbackQueuePolicy.withQuantum(quantum);
+		}
+		if(algorithm.equalsIgnoreCase("CFS")) {
+			return CompletelyFairPolicy.withDefaults();
+		}
+		throw new Exception("[Error]: Unknown algorithm "+algorithm);
+	}
+}
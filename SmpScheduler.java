@@ -0,0 +1,543 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This is the multi-cpu (SMP) engine. It schedules a process table on
+ * several cpus at once with the policies of the table engine (SchedulingPolicy).
+ *
+ * Every cpu has its own readyQueue (its own policy), the arriving processes
+ * are placed on the cpus in turn. Every idle cpu first takes the next process
+ * of its own readyQueue, a cpu that is still idle then steals the next process
+ * of the busy cpu with the most waiting processes (work stealing).
+ * With a global queue every cpu takes its next process from one shared policy.
+ *
+ * The engine is event driven like TableScheduler: the time only moves to the
+ * next arrival or the next end of a run (completion or end of a time slice).
+ * A running process is taken out of its readyQueue and handed back when its
+ * time slice ends or an arrival preempts it (SRTN and PP), so a process that
+ * is preempted can continue on another cpu. On one cpu the results are the
+ * same as the table engine, except that a process that has no time left
+ * when an arrival preempts it completes right away.
+ *
+ * Without stealing and without a global queue the cpus never share a
+ * process, so every cpu is simulated on its own thread and the results
+ * are merged (the same results as simulating them together).
+ *
+ * Every cpu has its own gantt chart, busy time and context switches.
+ */
+public class SmpScheduler {
+
+	//these mark a cpu without a process and a cpu whose last process completed
+	private static final int NONE = -1;
+	private static final int COMPLETED = -2;
+
+	//this is the process table that is scheduled
+	private final ProcessTable table;
+	//these are the algorithm and the quantum time (round robin only)
+	private final String algorithm;
+	private final int quantum;
+	//this is the number of cpus
+	private final int cpus;
+	//this is true if every cpu takes its processes from one shared readyQueue
+	private final boolean globalQueue;
+	//this is true if an idle cpu steals from the readyQueue of another cpu
+	private final boolean stealing;
+	//this is false if the gantt charts are not recorded
+	private boolean recordChart = true;
+
+	//these are the readyQueues of the cpus (only the first one with a global queue)
+	private final SchedulingPolicy[] policies;
+	//this is true if an arrival preempts the running process
+	private final boolean preemptive;
+	//this is the number of waiting processes in every readyQueue
+	private final int[] waiting;
+	//this is the arrival cursor of the table
+	private final TableSource source;
+	//this is the cpu that the next arrival is placed on
+	private int nextCpu;
+	//this is the current time
+	private long time;
+
+	//these are the per-cpu run state, the running process and when its run started and ends
+	private final int[] running;
+	private final long[] runStart;
+	private final long[] runEnd;
+	//this is the process whose time slice ended on a cpu, it is queued after the arrivals
+	private final int[] expired;
+	//this is the process that ran last on a cpu (NONE before the first one, COMPLETED after it completed)
+	private final int[] last;
+
+	//these are the per-cpu results
+	private final long[] busy;
+	private final long[] switches;
+	private final GanttChart[] charts;
+	//this is the number of processes that were stolen by an idle cpu
+	private long steals;
+	//these are the running statistics of the completed processes
+	private final RunStatistics statistics = new RunStatistics();
+
+	/**
+	 * This is the standard constructor for the SMP engine
+	 * @param table This is the filled process table that is scheduled
+	 * @param algorithm This is the algorithm abbreviation (FCFS, SJF, SRTN, RR, NPP or PP)
+	 * @param quantum This is the quantum time (round robin only)
+	 * @param cpus This is the number of cpus
+	 * @param globalQueue This is true if the cpus share one readyQueue
+	 * @param stealing This is true if an idle cpu steals from the other readyQueues
+	 * @throws Exception throws an exception if the algorithm is unknown
+	 */
+	public SmpScheduler(ProcessTable table, String algorithm, int quantum, int cpus,
+			boolean globalQueue, boolean stealing) throws Exception {
+		if(cpus < 1) {
+			throw new Exception("[Error]: There must be at least one cpu");
+		}
+		this.table = table;
+		this.algorithm = algorithm;
+		this.quantum = quantum;
+		this.cpus = cpus;
+		this.globalQueue = globalQueue;
+		this.stealing = stealing && !globalQueue;
+		this.policies = new SchedulingPolicy[globalQueue ? 1 : cpus];
+		for(int q = 0; q < policies.length; q++) {
+			policies[q] = SchedulingPolicy.create(algorithm, quantum);
+		}
+		this.preemptive = policies[0].preemptsOnArrival();
+		this.waiting = new int[policies.length];
+		this.source = new TableSource(table);
+		this.running = new int[cpus];
+		this.runStart = new long[cpus];
+		this.runEnd = new long[cpus];
+		this.expired = new int[cpus];
+		this.last = new int[cpus];
+		this.busy = new long[cpus];
+		this.switches = new long[cpus];
+		this.charts = new GanttChart[cpus];
+		for(int c = 0; c < cpus; c++) {
+			charts[c] = new GanttChart(0);
+		}
+	}
+
+	/**
+	 * This method runs the SMP mode of the runtime arguments and printout the results
+	 * @param options These are the parsed runtime arguments
+	 * @throws Exception throws an exception if the input is incorrect
+	 */
+	public static void run(RunOptions options) throws Exception {
+		String inputFile = options.inputFile;
+		Workload workload;
+		String algorithm;
+		int quantum = 0;
+		if(BinaryWorkload.isBinary(inputFile)) {
+			BinaryWorkload binary = BinaryWorkload.open(inputFile);
+			workload = binary.toWorkload();
+			algorithm = binary.getAlgorithm();
+			quantum = binary.getQuantum();
+		}
+		else {
+			InputParser input = InputParser.parse(inputFile);
+			ArrayList<int[]> fileContents = input.getFileContents();
+			algorithm = input.getAlgorithm();
+			if(fileContents.size() < 3) {
+				throw new Exception("[Error]: "+inputFile+" needs process numbers, arrival times and burst times");
+			}
+			//the fourth line is the quantum for RR (the first quantum for MLFQ) and the priorities for NPP, PP and CFS
+			boolean hasPriority = algorithm.equalsIgnoreCase("NPP") || algorithm.equalsIgnoreCase("PP")
+					|| (algorithm.equalsIgnoreCase("CFS") && fileContents.size() > 3);
+			if(algorithm.equalsIgnoreCase("RR") || algorithm.equalsIgnoreCase("MLFQ")) {
+				quantum = fileContents.get(3)[0];
+			}
+			workload = new Workload(fileContents.get(0), fileContents.get(1), fileContents.get(2),
+					hasPriority ? fileContents.get(3) : null);
+		}
+		ProcessTable table = new ProcessTable(workload);
+		SmpScheduler scheduler = new SmpScheduler(table, algorithm, quantum, options.cpus,
+				options.globalQueue, options.stealing);
+		ReportWriter report = ProcessScheduling.report();
+		scheduler.setRecordChart(!report.isSummaryOnly());
+		scheduler.run(options.threads);
+
+		boolean isRoundRobin = algorithm.equalsIgnoreCase("RR") || algorithm.equalsIgnoreCase("MLFQ")
+				|| algorithm.equalsIgnoreCase("CFS");
+		report.println("----------- "+algorithm.toUpperCase()+" on "+options.cpus+" cpus ("
+				+(options.globalQueue ? "global queue" : "per-cpu queues"+(options.stealing ? ", work stealing" : ""))
+				+") -----------");
+		for(int i = 0; i < table.size(); i++) {
+			report.process(table, i, isRoundRobin);
+		}
+		for(int c = 0; c < options.cpus; c++) {
+			report.ganttChart("Printing Out Gantt Chart of CPU "+c+": ", scheduler.getGanttChart(c));
+		}
+		report.println("");
+		report.println("CPU\tBusy\t\tUtilization\tSwitches");
+		StringBuilder line = new StringBuilder(64);
+		for(int c = 0; c < options.cpus; c++) {
+			line.setLength(0);
+			line.append(c).append('\t').append(scheduler.getBusyTime(c)).append("\t\t")
+				.append(String.format("%.2f%%", 100 * scheduler.getUtilization(c))).append("\t\t")
+				.append(scheduler.getContextSwitches(c));
+			report.println(line);
+		}
+		report.println("Finish Time: "+scheduler.getStatistics().getFinishTime()
+				+(options.stealing && !options.globalQueue ? ", stolen processes: "+scheduler.getSteals() : ""));
+	}
+
+	/**
+	 * This method turns the recording of the gantt charts on or off
+	 * @param recordChart This is true if the gantt charts are recorded
+	 */
+	public void setRecordChart(boolean recordChart) {
+		this.recordChart = recordChart;
+	}
+
+	/**
+	 * This method schedules the table, the cpus are simulated in parallel
+	 * if they never share a process
+	 * @param threads This is the number of cpus that are simulated at the same time
+	 * @throws Exception throws an exception if a run fails
+	 */
+	public void run(int threads) throws Exception {
+		if(threads > 1 && cpus > 1 && !globalQueue && !stealing && table.getWorkload() != null) {
+			runPartitioned(threads);
+		}
+		else {
+			run();
+		}
+	}
+
+	/**
+	 * This method schedules the table on every cpu together
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void run() throws Exception {
+		begin();
+		while(true) {
+			admit();
+			//the processes whose time slice ended go behind the arrivals
+			for(int c = 0; c < cpus; c++) {
+				if(expired[c] >= 0) {
+					enqueue(globalQueue ? 0 : c, expired[c]);
+					expired[c] = NONE;
+				}
+			}
+			dispatch();
+			//move the time to the next arrival or the next end of a run
+			long next = source.hasNext() ? source.peekArrivalTime() : Long.MAX_VALUE;
+			for(int c = 0; c < cpus; c++) {
+				if(running[c] >= 0 && runEnd[c] < next) {
+					next = runEnd[c];
+				}
+			}
+			if(next == Long.MAX_VALUE) {
+				break;
+			}
+			time = next;
+			for(int c = 0; c < cpus; c++) {
+				if(running[c] >= 0 && runEnd[c] == time) {
+					int p = stop(c);
+					if(table.remaining[p] > 0) {
+						expired[c] = p;
+					}
+				}
+			}
+		}
+		finish();
+	}
+
+	/**
+	 * This method simulates every cpu on its own thread. The processes are
+	 * placed on the cpus in the same turns as run(), so without stealing every
+	 * cpu is a separate single cpu run over its own processes.
+	 * @param threads This is the number of cpus that are simulated at the same time
+	 * @throws Exception throws an exception if a run fails
+	 */
+	private void runPartitioned(int threads) throws Exception {
+		Workload workload = table.getWorkload();
+		SmpScheduler[] parts = new SmpScheduler[cpus];
+		int[][] rows = new int[cpus][];
+		ForkJoinPool pool = new ForkJoinPool(Math.min(threads, cpus));
+		try {
+			ArrayList<Future<Object>> simulating = new ArrayList<Future<Object>>();
+			for(int c = 0; c < cpus; c++) {
+				final int cpu = c;
+				simulating.add(pool.submit(() -> {
+					//the processes of the cpu in order of arrival
+					int count = (workload.size() - cpu + cpus - 1) / cpus;
+					int[] cpuRows = new int[count];
+					int[] number = new int[count];
+					int[] arrival = new int[count];
+					int[] burst = new int[count];
+					int[] priority = new int[count];
+					for(int k = 0; k < count; k++) {
+						int i = workload.arrivalOrder(cpu + k * cpus);
+						cpuRows[k] = i;
+						number[k] = workload.processNumber(i);
+						arrival[k] = workload.arrival(i);
+						burst[k] = workload.burst(i);
+						priority[k] = workload.priority(i);
+					}
+					SmpScheduler part = new SmpScheduler(
+							new ProcessTable(new Workload(number, arrival, burst, priority, true)),
+							algorithm, quantum, 1, false, false);
+					part.setRecordChart(recordChart);
+					part.run();
+					rows[cpu] = cpuRows;
+					parts[cpu] = part;
+					return null;
+				}));
+			}
+			for(Future<Object> part : simulating) {
+				part.get();
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+		//merge the results of the cpus into the table
+		begin();
+		for(int c = 0; c < cpus; c++) {
+			ProcessTable part = parts[c].table;
+			for(int k = 0; k < rows[c].length; k++) {
+				int i = rows[c][k];
+				table.remaining[i] = part.remaining[k];
+				table.start[i] = part.start[k];
+				table.exit[i] = part.exit[k];
+				table.wait[i] = part.wait[k];
+				table.turnaround[i] = part.turnaround[k];
+				table.response[i] = part.response[k];
+				//a process that is never run (RR without burst time) has no results
+				if(part.exit[k] > 0 || part.start[k] >= 0) {
+					statistics.record(table.exit[i], table.turnaround[i], table.wait[i], table.response[i]);
+				}
+			}
+			busy[c] = parts[c].busy[0];
+			switches[c] = parts[c].switches[0];
+			charts[c] = parts[c].charts[0];
+		}
+		finish();
+	}
+
+	/**
+	 * This method resets the table and the engine state before a run
+	 */
+	private void begin() {
+		table.reset();
+		source.rewind();
+		for(SchedulingPolicy policy : policies) {
+			policy.begin(table);
+		}
+		Arrays.fill(waiting, 0);
+		Arrays.fill(running, NONE);
+		Arrays.fill(expired, NONE);
+		Arrays.fill(last, NONE);
+		Arrays.fill(busy, 0);
+		Arrays.fill(switches, 0);
+		for(GanttChart chart : charts) {
+			chart.clear();
+		}
+		nextCpu = 0;
+		time = 0;
+		steals = 0;
+		statistics.reset();
+	}
+
+	/**
+	 * This method places the processes that arrived by the current time
+	 * on the readyQueues of the cpus in turn
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	private void admit() throws Exception {
+		while(source.hasNext() && source.peekArrivalTime() <= time) {
+			int p = source.next();
+			int cpu = nextCpu;
+			nextCpu = (nextCpu + 1) % cpus;
+			int queue = globalQueue ? 0 : cpu;
+			//an arrival preempts the running processes of its readyQueue (SRTN and PP)
+			if(preemptive) {
+				for(int c = 0; c < cpus; c++) {
+					if(running[c] >= 0 && (globalQueue || c == cpu)) {
+						int preempted = stop(c);
+						if(table.remaining[preempted] > 0) {
+							enqueue(queue, preempted);
+						}
+					}
+				}
+			}
+			if(policies[queue].onArrival(p)) {
+				waiting[queue]++;
+			}
+		}
+	}
+
+	/**
+	 * This method hands a process back to a readyQueue
+	 * @param queue This is the index of the readyQueue
+	 * @param p This is the index of the process
+	 */
+	private void enqueue(int queue, int p) {
+		if(policies[queue].onArrival(p)) {
+			waiting[queue]++;
+		}
+	}
+
+	/**
+	 * This method starts the next process on every idle cpu. Every idle cpu
+	 * takes its own work first, only then do the cpus that are still idle
+	 * steal from the longest readyQueue of a busy cpu.
+	 */
+	private void dispatch() {
+		for(SchedulingPolicy policy : policies) {
+			policy.onClock(time);
+		}
+		for(int c = 0; c < cpus; c++) {
+			int queue = globalQueue ? 0 : c;
+			if(running[c] == NONE && waiting[queue] > 0) {
+				start(c, queue);
+			}
+		}
+		if(!stealing) {
+			return;
+		}
+		for(int c = 0; c < cpus; c++) {
+			if(running[c] != NONE) {
+				continue;
+			}
+			//an idle cpu (its readyQueue is empty) steals from the longest readyQueue of a busy cpu
+			int queue = c;
+			for(int q = 0; q < waiting.length; q++) {
+				if(running[q] >= 0 && waiting[q] > waiting[queue]) {
+					queue = q;
+				}
+			}
+			if(queue != c) {
+				steals++;
+				start(c, queue);
+			}
+		}
+	}
+
+	/**
+	 * This method starts the next process of a readyQueue on an idle cpu
+	 * @param c This is the index of the cpu
+	 * @param queue This is the index of the readyQueue
+	 */
+	private void start(int c, int queue) {
+		//take the next process out of the readyQueue
+		SchedulingPolicy policy = policies[queue];
+		int p = policy.pickNext();
+		policy.onComplete(p);
+		waiting[queue]--;
+		if(table.start[p] < 0) {
+			table.start[p] = time;
+		}
+		running[c] = p;
+		runStart[c] = time;
+		runEnd[c] = time + Math.min(table.remaining[p], policy.timeSlice(p));
+	}
+
+	/**
+	 * This method stops the running process of a cpu at the current time
+	 * and completes it if it has no time left
+	 * @param c This is the index of the cpu
+	 * @return Returns the index of the process
+	 */
+	private int stop(int c) {
+		int p = running[c];
+		long ran = time - runStart[c];
+		table.remaining[p] -= (int) ran;
+		busy[c] += ran;
+		running[c] = NONE;
+		//running a different process than the last one is a context switch
+		if(last[c] != NONE && last[c] != p) {
+			switches[c]++;
+		}
+		last[c] = p;
+		if(recordChart) {
+			GanttChart chart = charts[c];
+			long chartEnd = chart.size() == 0 ? 0 : chart.getEnd(chart.size() - 1);
+			if(chartEnd < runStart[c]) {
+				chart.add(chartEnd, runStart[c], GanttChart.IDLE);
+			}
+			chart.add(runStart[c], time, table.processNumber(p));
+		}
+		if(table.remaining[p] == 0) {
+			table.exit[p] = time;
+			table.turnaround[p] = time - table.arrival(p);
+			table.wait[p] = table.turnaround[p] - table.burst(p);
+			table.response[p] = table.start[p] - table.arrival(p);
+			statistics.record(time, table.turnaround[p], table.wait[p], table.response[p]);
+			last[c] = COMPLETED;
+		}
+		return p;
+	}
+
+	/**
+	 * This method ends the gantt chart of every cpu at the finish time
+	 */
+	private void finish() {
+		if(!recordChart) {
+			return;
+		}
+		long finish = statistics.getFinishTime();
+		for(GanttChart chart : charts) {
+			long chartEnd = chart.size() == 0 ? 0 : chart.getEnd(chart.size() - 1);
+			if(chartEnd < finish) {
+				chart.add(chartEnd, finish, GanttChart.IDLE);
+			}
+		}
+	}
+
+	/**
+	 * This method returns the gantt chart of a cpu
+	 * @param c This is the index of the cpu
+	 * @return Returns the gantt chart of the last run
+	 */
+	public GanttChart getGanttChart(int c) {
+		return charts[c];
+	}
+
+	/**
+	 * This method returns how long a cpu ran processes
+	 * @param c This is the index of the cpu
+	 * @return Returns the busy time of the last run
+	 */
+	public long getBusyTime(int c) {
+		return busy[c];
+	}
+
+	/**
+	 * This method returns the share of the run that a cpu ran processes
+	 * @param c This is the index of the cpu
+	 * @return Returns the busy time divided by the finish time (0 for an empty run)
+	 */
+	public double getUtilization(int c) {
+		long finish = statistics.getFinishTime();
+		return finish == 0 ? 0 : (double) busy[c] / finish;
+	}
+
+	/**
+	 * This method returns the number of context switches of a cpu
+	 * @param c This is the index of the cpu
+	 * @return Returns how often the cpu changed from one process to another
+	 */
+	public long getContextSwitches(int c) {
+		return switches[c];
+	}
+
+	/**
+	 * This method returns the number of processes that were stolen by an idle cpu
+	 * @return Returns the number of steals of the last run
+	 */
+	public long getSteals() {
+		return steals;
+	}
+
+	/**
+	 * This method returns the running statistics of the last run
+	 * @return Returns the statistics of the completed processes
+	 */
+	public RunStatistics getStatistics() {
+		return statistics;
+	}
+}
@@ -0,0 +1,707 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This is the table engine. It solves the process scheduling
+ * algorithms directly over the primitive columns of a ProcessTable,
+ * so no Process objects are created while the algorithm runs.
+ *
+ * The processes arrive from a ProcessSource, either the arrival order
+ * of a filled table or a streamed trace (TraceReader) that loads each
+ * process into the table when the time reaches its arrival time.
+ *
+ * The engine is event driven: every algorithm is a SchedulingPolicy
+ * (FirstComeFirstServePolicy, HeapPolicy, RoundRobinPolicy,
+ * MultiLevelFeedbackQueuePolicy and CompletelyFairPolicy) that picks
+ * the processes, while the engine moves the time between the arrivals,
+ * completions and ends of time slices. Every policy makes the same decisions
+ * as the matching Process object method it replaced (kept in EngineCheck as
+ * the reference), so the results and the gantt chart are identical (MLFQ
+ * and CFS are new and have no Process object method).
+ *
+ * Next to the statistics of the completed processes the engine counts
+ * the context switches, preemptions, idle time and ready queue length of
+ * the simulated system while it runs (SchedulerMetrics).
+ *
+ * A long run can be saved to a checkpoint every so many completed
+ * processes (Checkpoint) and resumed from it with the same results.
+ *
+ * Functions used to solve for the final results of each process
+ * turnaround time = (exit time) - (arrival time)
+ * wait time = (exit time) - (arrival time) - (execution time)
+ * Response time =  (first execution time) - (arrival time)
+ */
+public class TableScheduler {
+
+	//these mark that no process ran yet or that the last process completed
+	private static final int NONE = -1;
+	private static final int COMPLETED = -2;
+
+	//this is the process table that is scheduled
+	private final ProcessTable table;
+	//this is the source of the processes that have yet to arrive
+	private ProcessSource source;
+	//this is true if the processes come from the filled table
+	private final boolean filledTable;
+	//this is called for every completed process (may be null)
+	private CompletionListener listener;
+	//these are the running statistics of the completed processes
+	private final RunStatistics statistics = new RunStatistics();
+	//this is false if the gantt chart is not recorded (streamed traces)
+	private boolean recordChart = true;
+	//this is the current time
+	private long time;
+	//this is the gantt chart of the last run
+	private final GanttChart chart = new GanttChart(0);
+	//these are the readyQueues, they are cleared and used again by the next run
+	private IndexHeap oldestFirst;
+	private IndexHeap newestFirst;
+	private IntQueue fifo;
+	//this is the process that ran last (NONE before the first one, COMPLETED after it completed)
+	private int running;
+	//these are the context switches, preemptions, idle time and ready queue length of the last run
+	private final SchedulerMetrics metrics = new SchedulerMetrics();
+	//this is the time a run starts at
+	private long startTime;
+	//this is the number of picks until round robin tries to skip full rounds again
+	private long roundCheck;
+	//these are the policy, the dispatched process and its time slice of an online run
+	private SchedulingPolicy online;
+	private int dispatched = NONE;
+	private long dispatchSlice;
+	//this is the policy of the run that is saved to the checkpoint
+	private SchedulingPolicy policy;
+	//this is where the run is saved (null for none) and the completed processes between two saves
+	private Checkpoint checkpoint;
+	private long checkpointEvery;
+	//this is the number of completed processes at which the run is saved next
+	private long nextCheckpoint;
+
+	/**
+	 * This is the standard constructor for the table engine
+	 * @param table This is the filled process table that is scheduled
+	 */
+	public TableScheduler(ProcessTable table) {
+		this.table = table;
+		this.filledTable = true;
+		this.source = new TableSource(table);
+	}
+
+	/**
+	 * This is the constructor for the table engine with a streamed source.
+	 * The rows of completed processes are released, so the gantt chart is
+	 * not recorded and the results must be taken from the completion listener.
+	 * @param table This is the empty process table that the source fills
+	 * @param source This is the source that loads the processes into the table
+	 * @param listener This is called for every completed process
+	 */
+	public TableScheduler(ProcessTable table, ProcessSource source, CompletionListener listener) {
+		this.table = table;
+		this.source = source;
+		this.listener = listener;
+		this.filledTable = false;
+		this.recordChart = false;
+	}
+
+	/**
+	 * This method sets the callback for every completed process
+	 * @param listener This is called for every completed process
+	 */
+	public void setCompletionListener(CompletionListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * This method runs the algorithm with the given name
+	 * @param algorithm This is the algorithm abbreviation (FCFS, SJF, SRTN, RR, NPP, PP, MLFQ or CFS)
+	 * @param quantum This is the quantum time (round robin and the first MLFQ level only)
+	 * @throws Exception throws an exception if the algorithm is unknown
+	 */
+	public void run(String algorithm, int quantum) throws Exception {
+		if(algorithm.equalsIgnoreCase("FCFS")) {
+			fcfs();
+		}
+		else if(algorithm.equalsIgnoreCase("SRTN")) {
+			srtn();
+		}
+		else if(algorithm.equalsIgnoreCase("RR")) {
+			rr(quantum);
+		}
+		else if(algorithm.equalsIgnoreCase("NPP")) {
+			npp();
+		}
+		else if(algorithm.equalsIgnoreCase("PP")) {
+			pp();
+		}
+		else if(algorithm.equalsIgnoreCase("SJF")) {
+			sjf();
+		}
+		else if(algorithm.equalsIgnoreCase("MLFQ")) {
+			run(MultiLevelFeedbackQueuePolicy.withQuantum(quantum));
+		}
+		else if(algorithm.equalsIgnoreCase("CFS")) {
+			run(CompletelyFairPolicy.withDefaults());
+		}
+		else {
+			throw new Exception("[Error]: Unknown algorithm "+algorithm);
+		}
+	}
+
+	/**
+	 * This method saves the run to a checkpoint every so many completed processes
+	 * @param checkpoint This is where the run is saved (null for none)
+	 * @param every This is the number of completed processes between two saves
+	 */
+	public void setCheckpoint(Checkpoint checkpoint, long every) {
+		this.checkpoint = checkpoint;
+		this.checkpointEvery = every;
+	}
+
+	/**
+	 * This method turns the recording of the gantt chart on or off
+	 * (a long run that only needs the statistics leaves it off)
+	 * @param recordChart This is true if the gantt chart is recorded
+	 */
+	public void setRecordChart(boolean recordChart) {
+		this.recordChart = recordChart;
+	}
+
+	/**
+	 * This method returns the running statistics of the last run
+	 * @return Returns the statistics of the completed processes
+	 */
+	public RunStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * This method returns the number of context switches of the last run
+	 * @return Returns how often the cpu changed from one process to another
+	 */
+	public long getContextSwitches() {
+		return metrics.getContextSwitches();
+	}
+
+	/**
+	 * This method returns the metrics of the simulated system of the last run
+	 * @return Returns the context switches, preemptions, utilization and ready queue length
+	 */
+	public SchedulerMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * This method sets the time the next run starts at, a run of the later
+	 * busy periods of a workload (BusyPeriodScheduler) starts where the earlier ones end
+	 * @param startTime This is the start time (0 by default)
+	 */
+	public void setStartTime(long startTime) {
+		this.startTime = startTime;
+	}
+
+	/**
+	 * This method returns the gantt chart of the last run
+	 * (the chart is cleared by the next run)
+	 * @return Returns the gantt chart (empty for streamed traces)
+	 */
+	public GanttChart getGanttChart() {
+		return chart;
+	}
+
+	/**
+	 * This method solves the table with first come first serve
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void fcfs() throws Exception {
+		run(new FirstComeFirstServePolicy(fifo()));
+	}
+
+	/**
+	 * This method solves the table with shortest job first
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void sjf() throws Exception {
+		run(new HeapPolicy(readyQueue(false), HeapPolicy.KEY_BURST, false));
+	}
+
+	/**
+	 * This method solves the table with non-preemptive priority
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void npp() throws Exception {
+		run(new HeapPolicy(readyQueue(true), HeapPolicy.KEY_PRIORITY, false));
+	}
+
+	/**
+	 * This method solves the table with shortest remaining time next
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void srtn() throws Exception {
+		run(new HeapPolicy(readyQueue(false), HeapPolicy.KEY_REMAINING, true));
+	}
+
+	/**
+	 * This method solves the table with preemptive priority
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void pp() throws Exception {
+		run(new HeapPolicy(readyQueue(true), HeapPolicy.KEY_PRIORITY, true));
+	}
+
+	/**
+	 * This method solves the table with round robin
+	 * @param quantum This is the quantum time
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void rr(int quantum) throws Exception {
+		run(new RoundRobinPolicy(fifo(), quantum));
+	}
+
+	/**
+	 * This method solves the table with a scheduling policy.
+	 *
+	 * The time only moves from one event to the next: the running process
+	 * runs until it completes, its time slice ends or (if the policy is
+	 * preempted by arrivals) the next process arrives, whichever comes first.
+	 * An idle cpu jumps to the next arrival time.
+	 * @param policy This is the policy that picks the processes
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void run(SchedulingPolicy policy) throws Exception {
+		begin();
+		policy.begin(table);
+		this.policy = policy;
+		admit(policy);
+		runEvents(policy);
+	}
+
+	/**
+	 * This method carries on with a run that was restored from a checkpoint (readState)
+	 * @param policy This is the policy that the checkpoint was read into
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void resume(SchedulingPolicy policy) throws Exception {
+		runEvents(policy);
+	}
+
+	/**
+	 * This method writes the time, the metrics and the policy of the run to a checkpoint
+	 * (the process table and the source are written by the caller)
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeLong(time);
+		out.writeInt(running);
+		metrics.writeState(out);
+		out.writeLong(roundCheck);
+		statistics.writeState(out);
+		policy.writeState(out);
+	}
+
+	/**
+	 * This method replaces the state of the engine and the policy with the state of a
+	 * checkpoint, the process table and the source must be restored first
+	 * @param policy This is a new policy of the algorithm of the checkpoint
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 */
+	public void readState(SchedulingPolicy policy, DataInputStream in) throws IOException {
+		begin();
+		policy.begin(table);
+		this.policy = policy;
+		time = in.readLong();
+		running = in.readInt();
+		metrics.readState(in);
+		roundCheck = in.readLong();
+		statistics.readState(in);
+		policy.readState(in);
+	}
+
+	/**
+	 * This method runs the events of a run until every process completed
+	 * @param policy This is the policy that picks the processes
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	private void runEvents(SchedulingPolicy policy) throws Exception {
+		//round robin runs the full rounds without arrivals or completions in closed form
+		RoundRobinPolicy rounds = policy instanceof RoundRobinPolicy ? (RoundRobinPolicy) policy : null;
+		nextCheckpoint = statistics.getCount() + checkpointEvery;
+		while(true) {
+			//if the cpu is idle then jump to the next arrival time, again if the policy
+			//dropped every process that arrived (round robin without execution time)
+			while(!policy.hasReady()) {
+				if(!source.hasNext()) {
+					return;
+				}
+				skipIdleTime();
+				admit(policy);
+			}
+			policy.onClock(time);
+			if(rounds != null && --roundCheck <= 0) {
+				skipFullRounds(rounds);
+			}
+			int p = policy.pickNext();
+			long slice = policy.timeSlice(p);
+			execute(policy, p, slice, limit(policy, slice));
+			admit(policy);
+			//the run is saved between two events
+			if(checkpoint != null && statistics.getCount() >= nextCheckpoint) {
+				checkpoint.save(this);
+				nextCheckpoint = statistics.getCount() + checkpointEvery;
+			}
+		}
+	}
+
+	/**
+	 * This method starts an online run (OnlineScheduler). The processes are
+	 * handed to the source while the run goes on and the run only moves
+	 * forward when advanceTo is called.
+	 * @param policy This is the policy that picks the processes
+	 */
+	public void start(SchedulingPolicy policy) {
+		begin();
+		policy.begin(table);
+		this.policy = policy;
+		online = policy;
+		dispatched = NONE;
+	}
+
+	/**
+	 * This method moves the online run forward to a time. A process is
+	 * dispatched at every event before that time and every run that ends before
+	 * that time is completed. A run that goes on to the time or past it stays
+	 * dispatched, an arrival that is submitted later may still cut it short (if the
+	 * policy is preempted by arrivals), so it is only recorded once its end is known.
+	 * @param until This is the time the run moves forward to
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public void advanceTo(long until) throws Exception {
+		while(true) {
+			if(dispatched == NONE) {
+				admit(online);
+				if(!online.hasReady()) {
+					//the cpu is idle until the next arrival
+					if(!source.hasNext() || source.peekArrivalTime() >= until) {
+						return;
+					}
+					skipIdleTime();
+					continue;
+				}
+				//the processes that arrive at that time may still be submitted
+				if(time >= until) {
+					return;
+				}
+				dispatch();
+			}
+			long limit = limit(online, dispatchSlice);
+			if(time + Math.min(table.remaining[dispatched], limit) >= until) {
+				return;
+			}
+			execute(online, dispatched, dispatchSlice, limit);
+			dispatched = NONE;
+		}
+	}
+
+	/**
+	 * This method moves the online run forward to a time and dispatches
+	 * a process at that time if the cpu is free
+	 * @param now This is the current time of the online run
+	 * @return Returns the index of the dispatched process (-1 if the cpu is idle)
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	public int dispatchAt(long now) throws Exception {
+		advanceTo(now);
+		if(dispatched == NONE) {
+			//a process that arrives at this time is ready before the pick
+			if(!online.hasReady() && source.hasNext() && source.peekArrivalTime() <= now) {
+				skipIdleTime();
+			}
+			admit(online);
+			if(online.hasReady()) {
+				dispatch();
+			}
+		}
+		return dispatched;
+	}
+
+	/**
+	 * This method returns the dispatched process of the online run
+	 * @return Returns the index of the process (-1 if none is dispatched)
+	 */
+	public int getDispatched() {
+		return dispatched;
+	}
+
+	/**
+	 * This method returns the current time of the run
+	 * @return Returns the time of the last event
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/*
+	 * These are the dependencies shared between the algorithms
+	 */
+
+	/**
+	 * This method picks the next process of the online run at the current time
+	 */
+	private void dispatch() {
+		online.onClock(time);
+		dispatched = online.pickNext();
+		dispatchSlice = online.timeSlice(dispatched);
+		if(table.start[dispatched] < 0) {
+			table.start[dispatched] = time;
+		}
+	}
+
+	/**
+	 * This method returns how long the picked process may run before the next event
+	 * @param policy This is the policy of the run
+	 * @param slice This is the time slice of the process
+	 * @return Returns the time slice or the time until the next arrival (if the policy is preempted by arrivals)
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	private long limit(SchedulingPolicy policy, long slice) throws Exception {
+		//difference between current time to the next arrival time
+		if(policy.preemptsOnArrival() && source.hasNext()) {
+			return Math.min(slice, source.peekArrivalTime() - time);
+		}
+		return slice;
+	}
+
+	/**
+	 * This method runs the picked process until the next event and
+	 * completes it or hands it back to the policy
+	 * @param policy This is the policy of the run
+	 * @param p This is the index of the process
+	 * @param slice This is the time slice of the process
+	 * @param limit This is the time until the next event
+	 * @throws Exception throws an exception if the completion listener fails
+	 */
+	private void execute(SchedulingPolicy policy, int p, long slice, long limit) throws Exception {
+		if(table.start[p] < 0) {
+			table.start[p] = time;
+		}
+		//if the process completes before the next event then run it to completion
+		if(table.remaining[p] < limit) {
+			time += table.remaining[p];
+			record(p);
+			table.remaining[p] = 0;
+			complete(p);
+			policy.onComplete(p);
+			release(p);
+		}
+		//run the process until the next event
+		else {
+			time += limit;
+			record(p);
+			table.remaining[p] -= (int) limit;
+			//a process preempted by an arrival stays ready even without time left
+			if(table.remaining[p] == 0 && limit == slice) {
+				complete(p);
+				policy.onComplete(p);
+				release(p);
+			}
+			else {
+				policy.onPreempt(p);
+			}
+		}
+	}
+
+	/**
+	 * This method resets the table and the engine state before a run.
+	 * Nothing is allocated, so running the same table again is free.
+	 */
+	private void begin() {
+		//a filled table is walked again from the first arrival
+		if(filledTable) {
+			table.reset();
+			((TableSource) source).rewind();
+		}
+		time = startTime;
+		statistics.reset();
+		metrics.reset(startTime);
+		running = NONE;
+		roundCheck = 0;
+		chart.clear();
+	}
+
+	/**
+	 * This method returns the FIFO readyQueue of a run
+	 * @return Returns the queue (the policy clears it)
+	 */
+	private IntQueue fifo() {
+		if(fifo == null) {
+			fifo = new IntQueue();
+		}
+		return fifo;
+	}
+
+	/**
+	 * This method returns the heap readyQueue of a run
+	 * @param newestFirstOnTies This is true if equal keys run the newest index first
+	 * @return Returns the heap (the policy clears it)
+	 */
+	private IndexHeap readyQueue(boolean newestFirstOnTies) {
+		if(newestFirstOnTies) {
+			if(newestFirst == null) {
+				newestFirst = new IndexHeap(true);
+			}
+			return newestFirst;
+		}
+		if(oldestFirst == null) {
+			oldestFirst = new IndexHeap(false);
+		}
+		return oldestFirst;
+	}
+
+	/**
+	 * This method updates the final attributes of a completed process
+	 * @param p This is the index of the process
+	 * @throws Exception throws an exception if the completion listener fails
+	 */
+	private void complete(int p) throws Exception {
+		table.exit[p] = time;
+		table.turnaround[p] = time - table.arrival(p);
+		table.wait[p] = table.turnaround[p] - table.burst(p);
+		table.response[p] = table.start[p] - table.arrival(p);
+		statistics.record(time, table.turnaround[p], table.wait[p], table.response[p]);
+		metrics.completion();
+		running = COMPLETED;
+		if(listener != null) {
+			listener.completed(table, p);
+		}
+	}
+
+	/**
+	 * This method reports a process that the policy did not take when it
+	 * arrived (round robin without execution time) and releases its row.
+	 * The process never runs, so it keeps the zero results of a new row,
+	 * the same results a filled table prints for it.
+	 * @param p This is the index of the process
+	 * @throws Exception throws an exception if the completion listener fails
+	 */
+	private void drop(int p) throws Exception {
+		if(listener != null) {
+			listener.completed(table, p);
+		}
+		release(p);
+	}
+
+	/**
+	 * This method releases the row of a process that left the readyQueue
+	 * @param p This is the index of the process
+	 */
+	private void release(int p) {
+		table.release(p);
+	}
+
+	/**
+	 * This method adds the process that ran until the current time
+	 * to the gantt chart
+	 * @param p This is the index of the process
+	 */
+	private void record(int p) {
+		//running a different process than the last one is a context switch
+		if(running != NONE && running != p) {
+			metrics.contextSwitch(running >= 0);
+		}
+		running = p;
+		if(recordChart) {
+			chart.add(time, table.processNumber(p));
+		}
+	}
+
+	/**
+	 * This method runs the full round robin rounds up to the next event at once.
+	 *
+	 * While no process arrives and no process completes, every ready process
+	 * runs one quantum per round in the same order. So the number of rounds is
+	 * the rounds until the shortest remaining process could complete or the
+	 * next process arrives, whichever is less, and the remaining time of every
+	 * process drops by that many quanta. The first round is recorded segment by
+	 * segment and the others repeat it in the gantt chart (run-length).
+	 *
+	 * The rounds are only checked once per round, so the scan of the readyQueue
+	 * costs O(1) per quantum.
+	 * @param policy This is the round robin policy of the run
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	private void skipFullRounds(RoundRobinPolicy policy) throws Exception {
+		IntQueue readyQueue = policy.readyQueue();
+		int n = readyQueue.size();
+		long quantum = policy.getQuantum();
+		long round = n * quantum;
+		roundCheck = n;
+		//the rounds end before the next arrival time
+		long rounds = source.hasNext() ? (source.peekArrivalTime() - time - 1) / round : Long.MAX_VALUE;
+		for(int i = 0; i < n && rounds > 0; i++) {
+			rounds = Math.min(rounds, (table.remaining[readyQueue.get(i)] - 1) / quantum);
+		}
+		if(rounds <= 0) {
+			return;
+		}
+		for(int i = 0; i < n; i++) {
+			int p = readyQueue.get(i);
+			if(table.start[p] < 0) {
+				table.start[p] = time + i * quantum;
+			}
+			table.remaining[p] -= (int) (rounds * quantum);
+		}
+		//the first round is recorded like any other quantum
+		for(int i = 0; i < n; i++) {
+			time += quantum;
+			record(readyQueue.get(i));
+		}
+		//every other round switches n times (never for a single process)
+		if(rounds > 1) {
+			time += (rounds - 1) * round;
+			//every quantum of a round preempts the process before it
+			if(n > 1) {
+				metrics.contextSwitches((rounds - 1) * n, (rounds - 1) * n);
+			}
+			if(recordChart) {
+				chart.repeat(n, rounds - 1);
+			}
+		}
+	}
+
+	/**
+	 * This method moves the time of an idle cpu forward to the
+	 * next arrival time and adds a single P* entry to the gantt chart.
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	private void skipIdleTime() throws Exception {
+		long arrival = source.peekArrivalTime();
+		if(arrival > time) {
+			metrics.idle(time, arrival);
+			time = arrival;
+			if(recordChart) {
+				chart.add(time, GanttChart.IDLE);
+			}
+		}
+	}
+
+	/**
+	 * This method hands the processes that arrived by the current time
+	 * to the policy
+	 * @param policy This is the policy of the run
+	 * @throws Exception throws an exception if the source can not be read
+	 */
+	private void admit(SchedulingPolicy policy) throws Exception {
+		while(source.hasNext() && source.peekArrivalTime() <= time) {
+			int p = source.next();
+			if(!policy.onArrival(p)) {
+				drop(p);
+			}
+			else {
+				metrics.arrival(table.arrival(p));
+			}
+		}
+		metrics.recordUntil(time);
+	}
+}
@@ -0,0 +1,52 @@
+/**
+ * This is the arrival cursor of a filled process table.
+ * It walks the arrival order of the table, so admitting the
+ * k processes that arrived by a given time costs O(k).
+ */
+public class TableSource implements ProcessSource {
+
+	//this is the process table that is walked
+	private final ProcessTable table;
+	//this is the position in the arrival order of the next process to arrive
+	private int next;
+
+	/**
+	 * This is the standard constructor for the table source
+	 * @param table This is the filled process table
+	 */
+	public TableSource(ProcessTable table) {
+		this.table = table;
+	}
+
+	/**
+	 * This method moves the cursor back to the first arrival,
+	 * so the table can be walked again by the next run
+	 */
+	public void rewind() {
+		next = 0;
+	}
+
+	/**
+	 * This method returns if there are processes that have yet to arrive
+	 * @return Returns true if there is a next process
+	 */
+	public boolean hasNext() {
+		return next < table.size();
+	}
+
+	/**
+	 * This method returns the arrival time of the next process
+	 * @return Returns the arrival time of the next process
+	 */
+	public long peekArrivalTime() {
+		return table.arrival(table.arrivalOrder(next));
+	}
+
+	/**
+	 * This method returns the table row of the next process and moves past it
+	 * @return Returns the index of the next process in the process table
+	 */
+	public int next() {
+		return table.arrivalOrder(next++);
+	}
+}
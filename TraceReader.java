@@ -0,0 +1,313 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * This class reads a row trace lazily and loads each process into
+ * a process table when the table engine asks for it, so only the
+ * processes that have arrived and not completed are kept in memory.
+ *
+ * Row trace format (one process per line, sorted by arrival time):
+ * # line 1: algorithm_name[,quantum] (the quantum is for RR and MLFQ only,
+ * MLFQ doubles it on each of its levels)
+ * # every other line: process number,arrival time,burst time[,priority]
+ * (the priority is required for NPP and PP and optional for CFS, blank lines are skipped)
+ *
+ * Malformed input throws an exception with the line and column number.
+ *
+ * The reader can write its position to a checkpoint and a new reader of the
+ * same trace carries on from it (with the read ahead row) without reading
+ * the rows before it again.
+ */
+public class TraceReader implements ProcessSource, AutoCloseable {
+
+	//this is the size of the read buffer
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	//this is the file that is read
+	private final InputStream input;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int position;
+	private int limit;
+	//this is the position in the file of the first byte of the buffer
+	private long bufferOffset;
+	//this is the position in the file (1 based line and column)
+	private int line = 1;
+	private int column = 0;
+
+	//this is the table that the processes are loaded into
+	private final ProcessTable table;
+	//these are the values of the header line
+	private final String algorithm;
+	private final int quantum;
+	private final boolean requiresPriority;
+
+	//these are the values of the next row (read ahead by one row)
+	private final long[] row = new long[4];
+	private int rowValues;
+	private boolean hasRow;
+	private long previousArrival = Long.MIN_VALUE;
+	//this is the number of rows handed to the table
+	private long rowsRead;
+
+	/**
+	 * This is the standard constructor for the trace reader.
+	 * The header line and the first row are read right away.
+	 * @param path This is the directory path of the trace
+	 * @param table This is the empty process table that the processes are loaded into
+	 * @throws Exception throws an exception if the trace can not be read or is malformed
+	 */
+	public TraceReader(String path, ProcessTable table) throws Exception {
+		this.input = Files.newInputStream(Paths.get(path));
+		this.table = table;
+		//read the header line (algorithm_name[,quantum])
+		StringBuilder header = new StringBuilder();
+		int b;
+		while((b = read()) != -1 && b != '\n') {
+			if(b != '\r') {
+				header.append((char) b);
+			}
+		}
+		String[] parts = header.toString().split(",");
+		this.algorithm = parts[0].trim();
+		this.quantum = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 0;
+		this.requiresPriority = algorithm.equalsIgnoreCase("NPP") || algorithm.equalsIgnoreCase("PP");
+		if((algorithm.equalsIgnoreCase("RR") || algorithm.equalsIgnoreCase("MLFQ")) && quantum <= 0) {
+			throw new Exception("[Error]: "+algorithm+" trace header needs a quantum ("+algorithm+",quantum)");
+		}
+		line++;
+		readRow();
+	}
+
+	/**
+	 * This method returns the algorithm from the header line
+	 * @return Returns the algorithm string
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * This method returns the quantum from the header line
+	 * @return Returns the quantum time (0 if none)
+	 */
+	public int getQuantum() {
+		return quantum;
+	}
+
+	/**
+	 * This method returns the number of processes read so far
+	 * @return Returns the number of rows handed to the table
+	 */
+	public long getRowsRead() {
+		return rowsRead;
+	}
+
+	/**
+	 * This method returns if there are processes that have yet to arrive
+	 * @return Returns true if there is a next row
+	 */
+	public boolean hasNext() {
+		return hasRow;
+	}
+
+	/**
+	 * This method returns the arrival time of the next process
+	 * @return Returns the arrival time of the next row
+	 */
+	public long peekArrivalTime() {
+		return row[1];
+	}
+
+	/**
+	 * This method loads the next row into the process table and reads ahead
+	 * @return Returns the index of the process in the process table
+	 * @throws Exception throws an exception if the next row can not be read or is malformed
+	 */
+	public int next() throws Exception {
+		int index = table.allocate((int) row[0], (int) row[1], (int) row[2],
+				rowValues == 4 ? (int) row[3] : -1);
+		rowsRead++;
+		readRow();
+		return index;
+	}
+
+	/**
+	 * This method writes the position in the file and the read ahead row to a checkpoint
+	 * @param out This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be written
+	 */
+	public void writeState(DataOutputStream out) throws IOException {
+		out.writeLong(bufferOffset + position);
+		out.writeInt(line);
+		out.writeInt(column);
+		out.writeLong(previousArrival);
+		out.writeLong(rowsRead);
+		out.writeBoolean(hasRow);
+		out.writeInt(rowValues);
+		for(int i = 0; i < rowValues; i++) {
+			out.writeLong(row[i]);
+		}
+	}
+
+	/**
+	 * This method moves the reader to the position of a checkpoint,
+	 * the bytes up to it are skipped without being parsed
+	 * @param in This is the checkpoint stream
+	 * @throws IOException throws an exception if the checkpoint can not be read
+	 * or the trace is shorter than the position
+	 */
+	public void readState(DataInputStream in) throws IOException {
+		long offset = in.readLong();
+		line = in.readInt();
+		column = in.readInt();
+		previousArrival = in.readLong();
+		rowsRead = in.readLong();
+		hasRow = in.readBoolean();
+		rowValues = in.readInt();
+		for(int i = 0; i < rowValues; i++) {
+			row[i] = in.readLong();
+		}
+		if(offset < bufferOffset) {
+			throw new IOException("[Error]: The checkpoint position is before the first row of the trace");
+		}
+		//the header and the first row are already in the buffer
+		if(offset <= bufferOffset + limit) {
+			position = (int) (offset - bufferOffset);
+			return;
+		}
+		input.skipNBytes(offset - bufferOffset - limit);
+		bufferOffset = offset;
+		position = 0;
+		limit = 0;
+	}
+
+	/**
+	 * This method closes the trace file
+	 * @throws IOException throws an exception if the file can not be closed
+	 */
+	public void close() throws IOException {
+		input.close();
+	}
+
+	/**
+	 * This method reads the next row of the trace into the row array
+	 * @throws Exception throws an exception if the row is malformed
+	 */
+	private void readRow() throws Exception {
+		hasRow = false;
+		while(true) {
+			int b = read();
+			//skip blank lines
+			if(b == '\n') {
+				line++;
+				column = 0;
+				continue;
+			}
+			if(b == '\r' || b == ' ' || b == '\t') {
+				continue;
+			}
+			if(b == -1) {
+				return;
+			}
+			rowValues = 0;
+			b = readValue(b);
+			while(b == ',') {
+				b = readValue(skipSpaces(read()));
+			}
+			b = skipSpaces(b);
+			if(b != '\n' && b != -1) {
+				throw error("expected a comma");
+			}
+			if(rowValues < 3) {
+				throw error("expected process number,arrival time,burst time[,priority]");
+			}
+			if(requiresPriority && rowValues < 4) {
+				throw error(algorithm+" needs a priority on every row");
+			}
+			if(row[1] < previousArrival) {
+				throw error("trace is not sorted by arrival time");
+			}
+			previousArrival = row[1];
+			hasRow = true;
+			line++;
+			column = 0;
+			return;
+		}
+	}
+
+	/**
+	 * This method reads one integer of a row
+	 * @param b This is the first byte of the integer
+	 * @return Returns the first byte after the integer
+	 * @throws Exception throws an exception if the integer is malformed
+	 */
+	private int readValue(int b) throws Exception {
+		if(rowValues == row.length) {
+			throw error("too many values on the row");
+		}
+		boolean negative = false;
+		if(b == '-') {
+			negative = true;
+			b = read();
+		}
+		if(b < '0' || b > '9') {
+			throw error("expected a number");
+		}
+		long value = 0;
+		while(b >= '0' && b <= '9') {
+			value = value * 10 + (b - '0');
+			if(value > (negative ? 2147483648L : Integer.MAX_VALUE)) {
+				throw error("number is out of the int range");
+			}
+			b = read();
+		}
+		row[rowValues++] = negative ? -value : value;
+		return skipSpaces(b);
+	}
+
+	/**
+	 * This method skips spaces, tabs and carriage returns
+	 * @param b This is the current byte
+	 * @return Returns the first byte that is not skipped
+	 * @throws Exception throws an exception if the file can not be read
+	 */
+	private int skipSpaces(int b) throws Exception {
+		while(b == ' ' || b == '\t' || b == '\r') {
+			b = read();
+		}
+		return b;
+	}
+
+	/**
+	 * This method reads the next byte of the file
+	 * @return Returns the next byte or -1 at the end of the file
+	 * @throws Exception throws an exception if the file can not be read
+	 */
+	private int read() throws Exception {
+		if(position == limit) {
+			bufferOffset += limit;
+			limit = input.read(buffer);
+			position = 0;
+			if(limit <= 0) {
+				limit = 0;
+				return -1;
+			}
+		}
+		column++;
+		//the bytes are unsigned, a 0xFF byte is not the end of the file
+		return buffer[position++] & 0xFF;
+	}
+
+	/**
+	 * This method creates the exception for malformed input
+	 * @param message This is the description of the error
+	 * @return Returns the exception with the line and column number
+	 */
+	private Exception error(String message) {
+		return new Exception("[Error]: Malformed trace at line "+line+", column "+column+": "+message);
+	}
+}
@@ -0,0 +1,169 @@
+import java.util.Arrays;
+
+/**
+ * This is the input of a process scheduling run: the process numbers,
+ * arrival times, burst times and priorities of every process.
+ *
+ * A workload never changes after it is created, so one workload can be
+ * scheduled any number of times and from many threads at once. The state
+ * of a run (remaining time, exit time ...) is kept by a ProcessTable
+ * created over the workload, the table shares the columns of the workload
+ * and only allocates its own run columns.
+ *
+ * The process at index i is made of the i-th entry of every column.
+ */
+public final class Workload {
+
+	//this is the number of processes in the workload
+	private final int size;
+
+	//these are the columns, they are never written after the constructor
+	//and only read through the methods below
+	private final int[] processNumber;
+	private final int[] arrival;
+	private final int[] burst;	//also known as "execution time"
+	private final int[] priority; //-1 for processes without a priority
+
+	//this is the process indexes sorted by arrival time (stable)
+	private final int[] arrivalOrder;
+
+	/**
+	 * This is the standard constructor for the workload, the columns are copied
+	 * @param processNumber This is a int array that stores the process numbers
+	 * @param arrivalTime This is a int array that stores the arrival times of the processes
+	 * @param burstTime This is a int array that stores the burst times of the processes
+	 * @param priority This is a int array that stores the priorities of the processes
+	 * (null for algorithms without priorities)
+	 * @throws Exception Throws an exception if the inputs are missing elements
+	 * (mismatched int[] lengths)
+	 */
+	public Workload(int[] processNumber, int[] arrivalTime, int[] burstTime, int[] priority) throws Exception {
+		this(processNumber.clone(), arrivalTime.clone(), burstTime.clone(),
+				priority != null ? priority.clone() : null, true);
+	}
+
+	/**
+	 * This is the constructor for columns that nothing else holds on to
+	 * (for example the bulk copies of a binary workload), they are not copied again
+	 * @param processNumber This is a int array that stores the process numbers
+	 * @param arrivalTime This is a int array that stores the arrival times of the processes
+	 * @param burstTime This is a int array that stores the burst times of the processes
+	 * @param priority This is a int array that stores the priorities of the processes (null for none)
+	 * @param owned This marks the constructor that takes the columns as they are
+	 * @throws Exception Throws an exception if the inputs are missing elements
+	 */
+	Workload(int[] processNumber, int[] arrivalTime, int[] burstTime, int[] priority, boolean owned)
+			throws Exception {
+		//If the lengths are unequal for the inputs then throw an exception
+		if((processNumber.length != arrivalTime.length)
+			|| (arrivalTime.length != burstTime.length)
+			|| (priority != null && arrivalTime.length != priority.length)) {
+			throw new Exception("[Error]: Incorrect inputs lengths found!");
+		}
+		this.size = processNumber.length;
+		this.processNumber = processNumber;
+		this.arrival = arrivalTime;
+		this.burst = burstTime;
+		if(priority != null) {
+			this.priority = priority;
+		}
+		else {
+			this.priority = new int[size];
+			Arrays.fill(this.priority, -1);
+		}
+		this.arrivalOrder = sortByArrival(this.arrival);
+	}
+
+	/**
+	 * This method returns the number of processes in the workload
+	 * @return Returns the size of the workload
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This method returns the process number of a process
+	 * @param index This is the index of the process
+	 * @return Returns the process number
+	 */
+	public int processNumber(int index) {
+		return processNumber[index];
+	}
+
+	/**
+	 * This method returns the arrival time of a process
+	 * @param index This is the index of the process
+	 * @return Returns the arrival time
+	 */
+	public int arrival(int index) {
+		return arrival[index];
+	}
+
+	/**
+	 * This method returns the burst time of a process
+	 * @param index This is the index of the process
+	 * @return Returns the burst time
+	 */
+	public int burst(int index) {
+		return burst[index];
+	}
+
+	/**
+	 * This method returns the priority of a process
+	 * @param index This is the index of the process
+	 * @return Returns the priority (-1 if the process has no priority)
+	 */
+	public int priority(int index) {
+		return priority[index];
+	}
+
+	/**
+	 * This method returns a process in order of arrival time,
+	 * processes with the same arrival time keep their input order.
+	 * @param position This is the position in the arrival order
+	 * @return Returns the index of the process
+	 */
+	public int arrivalOrder(int position) {
+		return arrivalOrder[position];
+	}
+
+	/**
+	 * This method copies the burst times into the remaining time column of a run
+	 * @param remaining This is the remaining time column (at least size entries)
+	 */
+	void copyBurst(int[] remaining) {
+		System.arraycopy(burst, 0, remaining, 0, size);
+	}
+
+	/**
+	 * This method returns the process indexes sorted by arrival time,
+	 * processes with the same arrival time keep their input order.
+	 * @param arrival This is the arrival time column
+	 * @return Returns the sorted process indexes
+	 */
+	private static int[] sortByArrival(int[] arrival) {
+		int[] order = new int[arrival.length];
+		boolean sorted = true;
+		for(int i = 0; i < order.length; i++) {
+			order[i] = i;
+			if(i > 0 && arrival[i] < arrival[i - 1]) {
+				sorted = false;
+			}
+		}
+		//most inputs are already sorted by arrival time
+		if(sorted) {
+			return order;
+		}
+		//sort (arrival, index) pairs packed into one long, so equal times keep the index order
+		long[] packed = new long[order.length];
+		for(int i = 0; i < packed.length; i++) {
+			packed[i] = ((long) arrival[i] << 32) | i;
+		}
+		Arrays.sort(packed);
+		for(int i = 0; i < packed.length; i++) {
+			order[i] = (int) packed[i];
+		}
+		return order;
+	}
+}
@@ -0,0 +1,385 @@
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+
+/**
+ * This program generates synthetic workloads for scale testing.
+ *
+ * The workload is written in the input file format (text) or as a row
+ * trace (trace) while it is generated, so the memory does not depend on
+ * the number of processes. Every column comes from its own random stream
+ * derived from the seed, so the same arguments always give the same
+ * workload and the text format can write one column at a time.
+ *
+ * Usage: java WorkloadGenerator [options] output (use - for the console)
+ * # --algorithm=FCFS|SJF|SRTN|RR|NPP|PP|MLFQ|CFS (default FCFS)
+ * # --count=n number of processes (default 1000)
+ * # --seed=s (default 1)
+ * # --format=text|trace (default text)
+ * # --arrival=poisson|mmpp|fixed (default poisson)
+ * # --load=l share of time the cpu is busy, sets the mean arrival gap (default 0.9)
+ * # --burst-factor=f mmpp only, the high rate state arrives f times faster than the low rate state (default 10)
+ * # --switch=p mmpp only, chance of changing state after each arrival (default 0.01)
+ * # --burst=exponential|pareto|bimodal|uniform (default exponential)
+ * # --mean-burst=m mean burst time (default 10)
+ * # --alpha=a pareto only, the tail index, smaller is heavier (default 1.5)
+ * # --priority=uniform|zipf (default uniform)
+ * # --priorities=k number of priority levels, 1 is the highest (default 10)
+ * # --quantum=q RR and MLFQ only (default 10, MLFQ doubles it on every level)
+ */
+public class WorkloadGenerator {
+
+	//these are the seed offsets of the random streams of each column
+	private static final long ARRIVAL_STREAM = 0x9E3779B97F4A7C15L;
+	private static final long BURST_STREAM = 0xC2B2AE3D27D4EB4FL;
+	private static final long PRIORITY_STREAM = 0x165667B19E3779F9L;
+	//this is the share of long jobs in a bimodal workload
+	private static final double LONG_JOB_SHARE = 0.1;
+	//this is how much longer a long job is than a short job (bimodal)
+	private static final double LONG_JOB_FACTOR = 10;
+	//this is the number of characters that are buffered before a write
+	private static final int CHUNK = 1 << 16;
+
+	//these are the generator settings
+	String algorithm = "FCFS";
+	long count = 1000;
+	long seed = 1;
+	String format = "text";
+	String arrival = "poisson";
+	double load = 0.9;
+	double burstFactor = 10;
+	double switchChance = 0.01;
+	String burst = "exponential";
+	double meanBurst = 10;
+	double alpha = 1.5;
+	String priority = "uniform";
+	int priorities = 10;
+	int quantum = 10;
+	String outputFile;
+
+	//these are the random streams (created again for every pass)
+	private SplittableRandom arrivalRandom;
+	private SplittableRandom burstRandom;
+	private SplittableRandom priorityRandom;
+	//this is the state of the arrival process
+	private double arrivalTime;
+	private boolean highRate;
+	//this is the cumulative distribution of the zipf priorities
+	private double[] zipf;
+
+	/**
+	 * This method parses the runtime arguments of the generator
+	 * @param args These are the runtime arguments
+	 * @return Returns the configured generator
+	 * @throws Exception throws an exception if an option is unknown or invalid
+	 */
+	public static WorkloadGenerator parse(String[] args) throws Exception {
+		WorkloadGenerator generator = new WorkloadGenerator();
+		for(String arg : args) {
+			if(!arg.startsWith("--")) {
+				if(generator.outputFile != null) {
+					throw new Exception("[Error]: More than one output file given");
+				}
+				generator.outputFile = arg;
+				continue;
+			}
+			int split = arg.indexOf('=');
+			if(split < 0) {
+				throw new Exception("[Error]: Option "+arg+" needs a value (--name=value)");
+			}
+			String name = arg.substring(2, split);
+			String value = arg.substring(split + 1);
+			switch(name) {
+				case "algorithm": generator.algorithm = value.toUpperCase(); break;
+				case "count": generator.count = Long.parseLong(value); break;
+				case "seed": generator.seed = Long.parseLong(value); break;
+				case "format": generator.format = value; break;
+				case "arrival": generator.arrival = value; break;
+				case "load": generator.load = Double.parseDouble(value); break;
+				case "burst-factor": generator.burstFactor = Double.parseDouble(value); break;
+				case "switch": generator.switchChance = Double.parseDouble(value); break;
+				case "burst": generator.burst = value; break;
+				case "mean-burst": generator.meanBurst = Double.parseDouble(value); break;
+				case "alpha": generator.alpha = Double.parseDouble(value); break;
+				case "priority": generator.priority = value; break;
+				case "priorities": generator.priorities = Integer.parseInt(value); break;
+				case "quantum": generator.quantum = Integer.parseInt(value); break;
+				default: throw new Exception("[Error]: Unknown option "+arg);
+			}
+		}
+		generator.validate();
+		return generator;
+	}
+
+	/**
+	 * This method checks the settings
+	 * @throws Exception throws an exception if a setting is invalid
+	 */
+	private void validate() throws Exception {
+		BinaryWorkload.algorithmCode(algorithm);
+		if(outputFile == null) {
+			throw new Exception("[Error]: No output file given");
+		}
+		if(count < 1 || count > Integer.MAX_VALUE) {
+			throw new Exception("[Error]: --count must be between 1 and "+Integer.MAX_VALUE);
+		}
+		if(!format.equals("text") && !format.equals("trace")) {
+			throw new Exception("[Error]: Unknown format "+format);
+		}
+		if(!arrival.equals("poisson") && !arrival.equals("mmpp") && !arrival.equals("fixed")) {
+			throw new Exception("[Error]: Unknown arrival process "+arrival);
+		}
+		if(!burst.equals("exponential") && !burst.equals("pareto")
+				&& !burst.equals("bimodal") && !burst.equals("uniform")) {
+			throw new Exception("[Error]: Unknown burst distribution "+burst);
+		}
+		if(!priority.equals("uniform") && !priority.equals("zipf")) {
+			throw new Exception("[Error]: Unknown priority distribution "+priority);
+		}
+		if(load <= 0 || meanBurst < 1 || burstFactor < 1 || alpha <= 1 || priorities < 1 || quantum < 1) {
+			throw new Exception("[Error]: --load, --mean-burst, --burst-factor, --alpha, --priorities "
+					+"and --quantum must be positive (mean burst and burst factor at least 1, alpha above 1)");
+		}
+	}
+
+	/**
+	 * This method returns if the workload has a priority column
+	 * @return Returns true for NPP, PP and CFS
+	 */
+	private boolean hasPriority() {
+		return algorithm.equals("NPP") || algorithm.equals("PP") || algorithm.equals("CFS");
+	}
+
+	/**
+	 * This method restarts every random stream from the seed
+	 */
+	private void restart() {
+		arrivalRandom = new SplittableRandom(seed ^ ARRIVAL_STREAM);
+		burstRandom = new SplittableRandom(seed ^ BURST_STREAM);
+		priorityRandom = new SplittableRandom(seed ^ PRIORITY_STREAM);
+		arrivalTime = 0;
+		highRate = false;
+		if(priority.equals("zipf")) {
+			//P(level k) is proportional to 1/k
+			zipf = new double[priorities];
+			double total = 0;
+			for(int k = 1; k <= priorities; k++) {
+				total += 1.0 / k;
+				zipf[k - 1] = total;
+			}
+			for(int k = 0; k < priorities; k++) {
+				zipf[k] /= total;
+			}
+		}
+	}
+
+	/**
+	 * This method returns the arrival time of the next process.
+	 * The first process arrives at time 0.
+	 * @return Returns the arrival time
+	 * @throws Exception throws an exception if the time is out of the int range
+	 */
+	private int nextArrival() throws Exception {
+		if(arrivalTime > Integer.MAX_VALUE) {
+			throw new Exception("[Error]: Arrival times are out of the int range, raise --load or lower --count");
+		}
+		int time = (int) arrivalTime;
+		//the mean gap keeps the cpu busy for the share given by the load
+		double gap = meanBurst / load;
+		if(arrival.equals("fixed")) {
+			arrivalTime += gap;
+		}
+		else if(arrival.equals("poisson")) {
+			arrivalTime += exponential(arrivalRandom, gap);
+		}
+		else {
+			//two states with the same share of arrivals and a mean gap of gap
+			double highGap = 2 * gap / (1 + burstFactor);
+			arrivalTime += exponential(arrivalRandom, highRate ? highGap : highGap * burstFactor);
+			if(arrivalRandom.nextDouble() < switchChance) {
+				highRate = !highRate;
+			}
+		}
+		return time;
+	}
+
+	/**
+	 * This method returns the burst time of the next process
+	 * @return Returns the burst time (at least 1)
+	 */
+	private int nextBurst() {
+		double value;
+		if(burst.equals("exponential")) {
+			value = exponential(burstRandom, meanBurst);
+		}
+		else if(burst.equals("pareto")) {
+			//the scale is set so the mean is the mean burst
+			double scale = meanBurst * (alpha - 1) / alpha;
+			value = scale / Math.pow(1 - burstRandom.nextDouble(), 1 / alpha);
+		}
+		else if(burst.equals("bimodal")) {
+			double shortMean = meanBurst / (1 - LONG_JOB_SHARE + LONG_JOB_SHARE * LONG_JOB_FACTOR);
+			boolean longJob = burstRandom.nextDouble() < LONG_JOB_SHARE;
+			value = exponential(burstRandom, longJob ? shortMean * LONG_JOB_FACTOR : shortMean);
+		}
+		else {
+			//uniform from 1 to 2 * mean - 1
+			value = 1 + burstRandom.nextDouble() * (2 * meanBurst - 2);
+		}
+		return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(value)));
+	}
+
+	/**
+	 * This method returns the priority of the next process
+	 * @return Returns the priority (1 to priorities)
+	 */
+	private int nextPriority() {
+		if(priority.equals("uniform")) {
+			return 1 + priorityRandom.nextInt(priorities);
+		}
+		double u = priorityRandom.nextDouble();
+		for(int k = 0; k < priorities; k++) {
+			if(u < zipf[k]) {
+				return k + 1;
+			}
+		}
+		return priorities;
+	}
+
+	/**
+	 * This method returns an exponentially distributed value
+	 * @param random This is the random stream
+	 * @param mean This is the mean of the distribution
+	 * @return Returns the value
+	 */
+	private static double exponential(SplittableRandom random, double mean) {
+		return -mean * Math.log(1 - random.nextDouble());
+	}
+
+	/**
+	 * This method writes the workload
+	 * @param out This is where the workload is written
+	 * @throws Exception throws an exception if the workload can not be written
+	 */
+	public void write(Writer out) throws Exception {
+		StringBuilder chunk = new StringBuilder(CHUNK + 64);
+		if(format.equals("trace")) {
+			writeTrace(out, chunk);
+		}
+		else {
+			writeText(out, chunk);
+		}
+		out.write(chunk.toString());
+		out.flush();
+	}
+
+	/**
+	 * This method writes the workload in the input file format, one column per line
+	 * @param out This is where the workload is written
+	 * @param chunk This is the buffer of the next write
+	 * @throws Exception throws an exception if the workload can not be written
+	 */
+	private void writeText(Writer out, StringBuilder chunk) throws Exception {
+		chunk.append(algorithm).append('\n');
+		//every column is a separate pass over the same random streams
+		for(int column = 0; column < 4; column++) {
+			restart();
+			if(column == 3 && !hasPriority()) {
+				if(algorithm.equals("RR")) {
+					chunk.append(quantum).append('\n');
+				}
+				else if(algorithm.equals("MLFQ")) {
+					chunk.append(quantum).append(',').append(quantum * 2).append(',').append(quantum * 4).append('\n');
+				}
+				break;
+			}
+			for(long i = 0; i < count; i++) {
+				if(i > 0) {
+					chunk.append(',');
+				}
+				if(column == 0) {
+					chunk.append(i + 1);
+				}
+				else if(column == 1) {
+					chunk.append(nextArrival());
+				}
+				else if(column == 2) {
+					chunk.append(nextBurst());
+				}
+				else {
+					chunk.append(nextPriority());
+				}
+				flushChunk(out, chunk);
+			}
+			chunk.append('\n');
+		}
+	}
+
+	/**
+	 * This method writes the workload as a row trace, one process per line
+	 * @param out This is where the workload is written
+	 * @param chunk This is the buffer of the next write
+	 * @throws Exception throws an exception if the workload can not be written
+	 */
+	private void writeTrace(Writer out, StringBuilder chunk) throws Exception {
+		restart();
+		chunk.append(algorithm);
+		if(algorithm.equals("RR") || algorithm.equals("MLFQ")) {
+			chunk.append(',').append(quantum);
+		}
+		chunk.append('\n');
+		for(long i = 0; i < count; i++) {
+			chunk.append(i + 1).append(',').append(nextArrival()).append(',').append(nextBurst());
+			if(hasPriority()) {
+				chunk.append(',').append(nextPriority());
+			}
+			chunk.append('\n');
+			flushChunk(out, chunk);
+		}
+	}
+
+	/**
+	 * This method writes the buffer once it is full
+	 * @param out This is where the workload is written
+	 * @param chunk This is the buffer of the next write
+	 * @throws Exception throws an exception if the workload can not be written
+	 */
+	private static void flushChunk(Writer out, StringBuilder chunk) throws Exception {
+		if(chunk.length() >= CHUNK) {
+			out.append(chunk);
+			chunk.setLength(0);
+		}
+	}
+
+	/**
+	 * This is the driver method of the generator.
+	 * @param args The options and the output file
+	 * @throws Exception throws an exception if the workload can not be written
+	 */
+	public static void main(String[] args) throws Exception {
+		WorkloadGenerator generator = null;
+		try {
+			generator = parse(args);
+		}
+		catch(Exception e) {
+			System.out.println(e.getMessage());
+			System.out.println("Error. Usage: java WorkloadGenerator [--algorithm=name] [--count=n] [--seed=s] "
+					+"[--format=text|trace] [--arrival=poisson|mmpp|fixed] [--burst=exponential|pareto|bimodal|uniform] "
+					+"[more options] output");
+			System.exit(1);
+		}
+		if(generator.outputFile.equals("-")) {
+			generator.write(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out)), CHUNK));
+		}
+		else {
+			try(Writer out = Files.newBufferedWriter(Paths.get(generator.outputFile))) {
+				generator.write(out);
+			}
+		}
+	}
+}
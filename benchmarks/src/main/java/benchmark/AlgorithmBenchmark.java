@@ -0,0 +1,155 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This benchmark measures the throughput of one full scheduling run
+ * of the table engine for every algorithm.
+ *
+ * The scheduler classes are in the default package, which can not be
+ * imported from here (and JMH does not accept benchmarks in the default
+ * package), so they are looked up once by name and called through
+ * method handles.
+ *
+ * Example: java -jar target/benchmarks.jar -p algorithm=SRTN -p processes=100000 -prof gc
+ * or run main, which adds the gc profiler (allocation rate) itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AlgorithmBenchmark {
+
+	//this is the mean burst time of the generated processes (uniform 1 to 20)
+	private static final double MEAN_BURST = 10.5;
+	//this is the share of time the cpu is busy for the poisson and fixed arrivals
+	private static final double LOAD = 0.9;
+
+	@Param({"FCFS", "SJF", "SRTN", "RR", "NPP", "PP"})
+	public String algorithm;
+
+	@Param({"1000", "10000", "100000", "1000000", "10000000"})
+	public int processes;
+
+	//poisson: exponential gaps, fixed: the same gap every time, batch: every process at time 0
+	@Param({"poisson", "fixed", "batch"})
+	public String arrival;
+
+	//the quantum is only used by RR
+	@Param({"10"})
+	public int quantum;
+
+	//these are the generated process columns
+	private int[] processNumber;
+	private int[] arrivalTime;
+	private int[] burstTime;
+	private int[] priority;
+
+	//these run the table engine
+	private MethodHandle newTable;
+	private MethodHandle newScheduler;
+	private MethodHandle runScheduler;
+
+	/**
+	 * This method generates the workload and looks up the scheduler methods
+	 * @throws Throwable throws an exception if a scheduler class can not be found
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Throwable {
+		generate(42);
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		Class<?> table = Class.forName("ProcessTable");
+		Class<?> scheduler = Class.forName("TableScheduler");
+		newTable = MethodHandles.insertArguments(lookup.findConstructor(table,
+				MethodType.methodType(void.class, int[].class, int[].class, int[].class, int[].class)),
+				0, processNumber, arrivalTime, burstTime, priority)
+				.asType(MethodType.methodType(Object.class));
+		newScheduler = lookup.findConstructor(scheduler, MethodType.methodType(void.class, table))
+				.asType(MethodType.methodType(Object.class, Object.class));
+		runScheduler = lookup.findVirtual(scheduler, "run",
+				MethodType.methodType(void.class, String.class, int.class))
+				.asType(MethodType.methodType(void.class, Object.class, String.class, int.class));
+	}
+
+	/**
+	 * This method generates the process columns
+	 * @param seed This is the seed of the random generator
+	 */
+	private void generate(long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		processNumber = new int[processes];
+		arrivalTime = new int[processes];
+		burstTime = new int[processes];
+		priority = new int[processes];
+		double gap = MEAN_BURST / LOAD;
+		double time = 0;
+		for(int i = 0; i < processes; i++) {
+			processNumber[i] = i + 1;
+			burstTime[i] = 1 + random.nextInt(20);
+			priority[i] = 1 + random.nextInt(10);
+			if(arrival.equals("poisson")) {
+				arrivalTime[i] = (int) time;
+				time += -gap * Math.log(1 - random.nextDouble());
+			}
+			else if(arrival.equals("fixed")) {
+				arrivalTime[i] = (int) time;
+				time += gap;
+			}
+			else if(arrival.equals("batch")) {
+				arrivalTime[i] = 0;
+			}
+			else {
+				throw new IllegalArgumentException("Unknown arrival "+arrival);
+			}
+		}
+	}
+
+	/**
+	 * This method runs the algorithm once over the whole workload
+	 * @return Returns the scheduler of the run
+	 * @throws Throwable throws an exception if the run fails
+	 */
+	@Benchmark
+	public Object schedule() throws Throwable {
+		Object scheduler = (Object) newScheduler.invokeExact((Object) newTable.invokeExact());
+		runScheduler.invokeExact(scheduler, algorithm, quantum);
+		return scheduler;
+	}
+
+	/**
+	 * This is the driver method, it runs the benchmarks with the gc profiler
+	 * so the allocation rate is reported next to the throughput.
+	 * @param args These are the JMH include patterns (optional)
+	 * @throws Exception throws an exception if the benchmarks can not be run
+	 */
+	public static void main(String[] args) throws Exception {
+		OptionsBuilder options = new OptionsBuilder();
+		options.include(args.length > 0 ? args[0] : AlgorithmBenchmark.class.getSimpleName());
+		options.addProfiler(GCProfiler.class);
+		Options built = options.build();
+		new Runner(built).run();
+	}
+}